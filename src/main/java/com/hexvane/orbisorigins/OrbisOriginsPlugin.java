@@ -5,6 +5,10 @@ import com.hypixel.hytale.assetstore.map.DefaultAssetMap;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.asset.AssetPackRegisterEvent;
 import com.hypixel.hytale.server.core.asset.type.item.config.CraftingRecipe;
+import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
+import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageCause;
+import com.hypixel.hytale.server.core.modules.entitystats.asset.EntityStatType;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.common.plugin.PluginIdentifier;
 import com.hypixel.hytale.server.core.plugin.PluginManager;
@@ -12,17 +16,32 @@ import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
 import com.hypixel.hytale.server.core.modules.interaction.interaction.config.server.OpenCustomUIInteraction;
 import com.hypixel.hytale.server.core.util.Config;
 import com.hexvane.orbisorigins.config.OrbisOriginsConfig;
+import com.hexvane.orbisorigins.data.AppliedSpeciesComponent;
+import com.hexvane.orbisorigins.data.SleepingRaiseComponent;
+import com.hexvane.orbisorigins.data.SpeciesComponent;
+import com.hexvane.orbisorigins.data.SpeciesModelTag;
 import com.hexvane.orbisorigins.gui.OrbisOriginsPageSupplier;
-import com.hexvane.orbisorigins.species.SpeciesData;
 import com.hexvane.orbisorigins.species.SpeciesLoader;
+import com.hexvane.orbisorigins.species.SpeciesMergeTable;
 import com.hexvane.orbisorigins.species.SpeciesRegistry;
+import com.hexvane.orbisorigins.systems.DelayedTaskSystem;
 import com.hexvane.orbisorigins.systems.FirstJoinSystem;
+import com.hexvane.orbisorigins.systems.SpeciesAdmissionSystem;
 import com.hexvane.orbisorigins.systems.SpeciesDamageResistanceSystem;
+import com.hexvane.orbisorigins.systems.SpeciesModelEnforcementSystem;
 import com.hexvane.orbisorigins.systems.SpeciesModelSystem;
 import com.hexvane.orbisorigins.systems.SpeciesModelMaintenanceSystem;
 import com.hexvane.orbisorigins.systems.SpeciesSleepingRaiseSystem;
+import com.hexvane.orbisorigins.util.ModelAssetIndex;
+import com.hexvane.orbisorigins.util.ModelCachePrewarmer;
+import com.hexvane.orbisorigins.util.PathInterner;
+import com.hexvane.orbisorigins.util.SpeciesModelCache;
+import com.hexvane.orbisorigins.util.SpeciesStatUtil;
 import com.hexvane.orbisorigins.commands.OriginsCommand;
+import com.hypixel.hytale.component.ComponentType;
 import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.server.core.universe.world.events.RemoveWorldEvent;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -39,6 +58,11 @@ public class OrbisOriginsPlugin extends JavaPlugin {
     @Nonnull
     private final Config<OrbisOriginsConfig> config = this.withConfig("config", OrbisOriginsConfig.CODEC);
 
+    private ComponentType<EntityStore, SpeciesComponent> speciesComponentType;
+    private ComponentType<EntityStore, SpeciesModelTag> speciesModelTagType;
+    private ComponentType<EntityStore, SleepingRaiseComponent> sleepingRaiseComponentType;
+    private ComponentType<EntityStore, AppliedSpeciesComponent> appliedSpeciesComponentType;
+
 
     public OrbisOriginsPlugin(JavaPluginInit init) {
         super(init);
@@ -57,18 +81,25 @@ public class OrbisOriginsPlugin extends JavaPlugin {
             LOGGER.atInfo().log("AbilityAPI not detected at setup - will re-check at species selection time.");
         }
 
+        // Runtime species components; registered before the systems whose queries use them
+        this.speciesComponentType = this.getEntityStoreRegistry().registerComponent(SpeciesComponent.class, SpeciesComponent::new);
+        this.speciesModelTagType = this.getEntityStoreRegistry().registerComponent(SpeciesModelTag.class, () -> SpeciesModelTag.INSTANCE);
+        this.sleepingRaiseComponentType = this.getEntityStoreRegistry().registerComponent(SleepingRaiseComponent.class, SleepingRaiseComponent::new);
+        // Saved with the player so a reload or world transfer can skip species state it already carries
+        this.appliedSpeciesComponentType = this.getEntityStoreRegistry().registerComponent(
+                AppliedSpeciesComponent.class, "OrbisOrigins_AppliedSpecies", AppliedSpeciesComponent.CODEC);
+
         // Initialize persistent data storage
         com.hexvane.orbisorigins.data.PlayerDataStorage.initialize(this.getDataDirectory());
         
         // Initialize species registry (loads from JSON files)
         SpeciesRegistry.initialize(this.getDataDirectory());
+        LOGGER.atInfo().log("%s", PathInterner.report());
 
         // Packs that register after this plugin (other mods with IncludesAssetPack) still contribute Species/*.json
         this.getEventRegistry().register(AssetPackRegisterEvent.class, event -> {
-            List<SpeciesData> added = SpeciesLoader.loadSpeciesFromPack(event.getAssetPack());
-            for (SpeciesData species : added) {
-                SpeciesRegistry.registerSpecies(species);
-            }
+            SpeciesMergeTable added = SpeciesLoader.loadSpeciesFromPack(event.getAssetPack());
+            SpeciesRegistry.registerAll(added);
             if (!added.isEmpty()) {
                 LOGGER.atInfo().log(
                         "Merged %d species definition(s) from late-registered asset pack: %s",
@@ -116,20 +147,75 @@ public class OrbisOriginsPlugin extends JavaPlugin {
             );
         }
         
+        // Drives DelayedTaskScheduler (deferred spawn model apply, first-join item)
+        this.getEntityStoreRegistry().registerSystem(new DelayedTaskSystem());
+
         // Register species model system (runs after PlayerSpawnedSystem to re-apply models on spawn)
-        SpeciesModelSystem speciesModelSystem = new SpeciesModelSystem();
+        SpeciesAdmissionSystem admissionSystem = null;
+        if (cfg.getJoinApplyBudgetMicros() > 0) {
+            admissionSystem = new SpeciesAdmissionSystem(cfg.getJoinApplyBudgetMicros());
+            this.getEntityStoreRegistry().registerSystem(admissionSystem);
+            LOGGER.atInfo().log("Registered Orbis Origins species admission queue (%d us per tick)", cfg.getJoinApplyBudgetMicros());
+        }
+        SpeciesModelSystem speciesModelSystem = new SpeciesModelSystem(admissionSystem);
         this.getEntityStoreRegistry().registerSystem(speciesModelSystem);
         LOGGER.atInfo().log("Registered Orbis Origins species model system");
         
+        // Register species model enforcement system (re-applies models as soon as they are overwritten)
+        if (cfg.isEventDrivenModelEnforcement()) {
+            this.getEntityStoreRegistry().registerSystem(new SpeciesModelEnforcementSystem());
+            LOGGER.atInfo().log("Registered Orbis Origins species model enforcement system");
+        }
+
         // Register species model maintenance system (periodically re-applies models to ensure persistence)
-        SpeciesModelMaintenanceSystem maintenanceSystem = new SpeciesModelMaintenanceSystem();
-        this.getEntityStoreRegistry().registerSystem(maintenanceSystem);
-        LOGGER.atInfo().log("Registered Orbis Origins species model maintenance system");
+        if (cfg.getModelMaintenanceIntervalTicks() > 0) {
+            SpeciesModelMaintenanceSystem maintenanceSystem = new SpeciesModelMaintenanceSystem(
+                    cfg.getModelMaintenanceIntervalTicks(), cfg.getModelMaintenanceMaxIntervalTicks(),
+                    cfg.getModelMaintenanceRecheckTicks());
+            this.getEntityStoreRegistry().registerSystem(maintenanceSystem);
+            this.getEventRegistry().registerGlobal(RemoveWorldEvent.class, event -> maintenanceSystem.forgetWorld(event.getWorld()));
+            LOGGER.atInfo().log("Registered Orbis Origins species model maintenance system (every %d-%d ticks per player, %d after an overwrite)",
+                    cfg.getModelMaintenanceIntervalTicks(), cfg.getModelMaintenanceMaxIntervalTicks(),
+                    cfg.getModelMaintenanceRecheckTicks());
+        } else {
+            LOGGER.atInfo().log("Periodic species model maintenance disabled by config");
+        }
+
+        // Per-player enforcement and maintenance state is also dropped on entity removal (SpeciesModelSystem)
+        this.getEventRegistry().register(PlayerDisconnectEvent.class, event -> {
+            SpeciesModelEnforcementSystem.forget(event.getPlayerRef().getUuid());
+            SpeciesModelMaintenanceSystem.forget(event.getPlayerRef().getUuid());
+        });
 
         // Register sleeping raise system (raises player position when sleeping to prevent clipping)
         this.getEntityStoreRegistry().registerSystem(new SpeciesSleepingRaiseSystem());
         LOGGER.atInfo().log("Registered Orbis Origins species sleeping raise system");
         
+        // Recompile species damage resistance tables whenever DamageCause indices may have changed
+        this.getEventRegistry().register(
+                LoadedAssetsEvent.class,
+                DamageCause.class,
+                event -> SpeciesRegistry.rebuildDamageResistanceTables()
+        );
+
+        // Species apply plans re-resolve their stat indices lazily once EntityStatType indices may have changed
+        this.getEventRegistry().register(
+                LoadedAssetsEvent.class,
+                EntityStatType.class,
+                event -> SpeciesStatUtil.onStatTypesLoaded()
+        );
+
+        // Cached species models reference parent ModelAssets; rebuild them (and the model name index) once those (re)load
+        this.getEventRegistry().register(
+                LoadedAssetsEvent.class,
+                ModelAsset.class,
+                event -> {
+                    ModelAssetIndex.rebuild();
+                    SpeciesModelCache.invalidate();
+                }
+        );
+        ModelCachePrewarmer.setEnabled(cfg.isPrewarmModelCache());
+
         // Register damage resistance system
         SpeciesDamageResistanceSystem damageResistanceSystem = new SpeciesDamageResistanceSystem();
         Query<?> damageQuery = damageResistanceSystem.getQuery();
@@ -173,6 +259,7 @@ public class OrbisOriginsPlugin extends JavaPlugin {
         // Save all player data before shutdown
         com.hexvane.orbisorigins.data.PlayerDataStorage.saveAll();
         LOGGER.atInfo().log("Saved all player data on shutdown");
+        ModelCachePrewarmer.shutdown();
     }
 
     /**
@@ -182,6 +269,22 @@ public class OrbisOriginsPlugin extends JavaPlugin {
         return com.hexvane.orbisorigins.ability.AbilityApiBridge.isAvailable();
     }
 
+    public ComponentType<EntityStore, SpeciesComponent> getSpeciesComponentType() {
+        return speciesComponentType;
+    }
+
+    public ComponentType<EntityStore, SpeciesModelTag> getSpeciesModelTagType() {
+        return speciesModelTagType;
+    }
+
+    public ComponentType<EntityStore, SleepingRaiseComponent> getSleepingRaiseComponentType() {
+        return sleepingRaiseComponentType;
+    }
+
+    public ComponentType<EntityStore, AppliedSpeciesComponent> getAppliedSpeciesComponentType() {
+        return appliedSpeciesComponentType;
+    }
+
     /**
      * Returns the active OrbisOrigins plugin instance, or null if not initialized.
      */
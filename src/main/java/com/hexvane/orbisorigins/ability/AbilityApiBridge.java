@@ -38,9 +38,96 @@ public final class AbilityApiBridge {
     private static final String TYPE_HEALTH_BELOW = "health_below";
     private static final String TYPE_TARGET_HEALTH_BELOW = "target_health_below";
 
+    /** Reflective AbilityService methods of the currently loaded AbilityAPI; replaced if its classloader changes. */
+    @Nullable
+    private static volatile ServiceHandles serviceHandles;
+
     private AbilityApiBridge() {
     }
 
+    private static final class ServiceHandles {
+        final ClassLoader classLoader;
+        final Method setAbility;
+        final Method removeAbility;
+        final Method setConditions;
+        final Method applyForPlayer;
+
+        ServiceHandles(@Nonnull ClassLoader classLoader) throws ReflectiveOperationException {
+            Class<?> service = classLoader.loadClass(SERVICE_CLASS);
+            this.classLoader = classLoader;
+            this.setAbility = service.getMethod("setAbility", UUID.class, String.class, Object.class);
+            this.removeAbility = service.getMethod("removeAbility", UUID.class, String.class);
+            this.setConditions = service.getMethod("setConditions", UUID.class, String.class, List.class);
+            this.applyForPlayer = service.getMethod("applyForPlayer", Ref.class, ComponentAccessor.class, World.class);
+        }
+    }
+
+    /**
+     * An ability of a species, resolved for granting (id and value). Its AbilityAPI condition objects are
+     * built on first grant and reused while the same AbilityAPI classloader is loaded.
+     */
+    public static final class AbilityGrant {
+        private final SpeciesAbilityConfig config;
+        private final String id;
+        private final Object value;
+        @Nullable
+        private volatile BuiltConditions conditions;
+
+        private AbilityGrant(@Nonnull SpeciesAbilityConfig config, @Nonnull String id, @Nonnull Object value) {
+            this.config = config;
+            this.id = id;
+            this.value = value;
+        }
+
+        @Nonnull
+        public String getId() {
+            return id;
+        }
+
+        @Nonnull
+        List<Object> conditions(@Nonnull ClassLoader classLoader) {
+            BuiltConditions built = conditions;
+            if (built == null || built.classLoader != classLoader) {
+                built = new BuiltConditions(classLoader, buildConditions(config, classLoader));
+                conditions = built;
+            }
+            return built.conditions;
+        }
+    }
+
+    private static final class BuiltConditions {
+        final ClassLoader classLoader;
+        final List<Object> conditions;
+
+        BuiltConditions(@Nonnull ClassLoader classLoader, @Nonnull List<Object> conditions) {
+            this.classLoader = classLoader;
+            this.conditions = conditions;
+        }
+    }
+
+    /**
+     * Resolves a species' ability configs into grants, skipping entries without an id.
+     */
+    @Nonnull
+    public static List<AbilityGrant> compileGrants(@Nonnull List<SpeciesAbilityConfig> abilities) {
+        List<AbilityGrant> grants = new ArrayList<>();
+        for (SpeciesAbilityConfig ability : abilities) {
+            if (ability == null) {
+                continue;
+            }
+            String id = ability.getId();
+            if (id == null || id.isEmpty()) {
+                continue;
+            }
+            Object value = resolveAbilityValue(ability);
+            if (value == null) {
+                continue;
+            }
+            grants.add(new AbilityGrant(ability, id, value));
+        }
+        return List.copyOf(grants);
+    }
+
     public static boolean isAvailable() {
         PluginManager manager = PluginManager.get();
         return manager != null && manager.getPlugin(ABILITY_API_ID) != null;
@@ -53,23 +140,17 @@ public final class AbilityApiBridge {
             @Nonnull World world,
             @Nullable SpeciesData currentSpecies
     ) {
-        if (!isAvailable()) {
+        ServiceHandles handles = service();
+        if (handles == null) {
             return;
         }
         UUID uuid = playerRef.getUuid();
         if (currentSpecies != null) {
-            for (SpeciesAbilityConfig ability : currentSpecies.getAbilities()) {
-                if (ability == null) {
-                    continue;
-                }
-                String id = ability.getId();
-                if (id == null || id.isEmpty()) {
-                    continue;
-                }
-                invokeRemoveAbility(uuid, id);
+            for (AbilityGrant grant : currentSpecies.getApplyPlan().getAbilityGrants()) {
+                invokeRemoveAbility(handles, uuid, grant.id);
             }
         }
-        invokeApplyForPlayer(ref, store, world);
+        invokeApplyForPlayer(handles, ref, store, world);
     }
 
     /**
@@ -83,35 +164,39 @@ public final class AbilityApiBridge {
             @Nonnull World world,
             @Nonnull SpeciesData species
     ) {
-        if (!isAvailable()) {
+        grantAbilities(playerRef, ref, store, world, species.getId(), species.getApplyPlan().getAbilityGrants());
+    }
+
+    /**
+     * Grants the compiled abilities (see {@link #compileGrants}) and reapplies movement/stat effects.
+     */
+    public static void grantAbilities(
+            @Nonnull PlayerRef playerRef,
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull World world,
+            @Nonnull String speciesId,
+            @Nonnull List<AbilityGrant> grants
+    ) {
+        ServiceHandles handles = service();
+        if (handles == null) {
             return;
         }
         UUID uuid = playerRef.getUuid();
         int applied = 0;
-        for (SpeciesAbilityConfig ability : species.getAbilities()) {
-            if (ability == null) {
+        for (AbilityGrant grant : grants) {
+            if (!invokeSetAbility(handles, uuid, grant.id, grant.value)) {
                 continue;
             }
-            String id = ability.getId();
-            if (id == null || id.isEmpty()) {
-                continue;
-            }
-            Object value = resolveAbilityValue(ability);
-            if (value == null) {
-                continue;
-            }
-            if (!invokeSetAbility(uuid, id, value)) {
-                continue;
-            }
-            List<Object> conditions = buildConditions(ability);
+            List<Object> conditions = grant.conditions(handles.classLoader);
             if (!conditions.isEmpty()) {
-                invokeSetConditions(uuid, id, conditions);
+                invokeSetConditions(handles, uuid, grant.id, conditions);
             }
             applied++;
         }
-        invokeApplyForPlayer(ref, store, world);
+        invokeApplyForPlayer(handles, ref, store, world);
         LOGGER.log(Level.INFO, "Applied {0} species ability(ies) for {1} (species {2})",
-                new Object[]{applied, uuid, species.getId()});
+                new Object[]{applied, uuid, speciesId});
     }
 
     @Nullable
@@ -124,17 +209,13 @@ public final class AbilityApiBridge {
     }
 
     @Nonnull
-    private static List<Object> buildConditions(@Nonnull SpeciesAbilityConfig ability) {
+    private static List<Object> buildConditions(@Nonnull SpeciesAbilityConfig ability, @Nonnull ClassLoader cl) {
         List<Object> out = new ArrayList<>();
         String condition = ability.getCondition();
         if (condition == null || condition.isEmpty()) {
             return out;
         }
         Map<String, Object> meta = ability.getMetadata();
-        ClassLoader cl = abilityClassLoader();
-        if (cl == null) {
-            return out;
-        }
 
         try {
             switch (condition) {
@@ -194,15 +275,32 @@ public final class AbilityApiBridge {
         return null;
     }
 
-    private static boolean invokeSetAbility(@Nonnull UUID uuid, @Nonnull String id, @Nonnull Object value) {
+    /**
+     * AbilityService methods of the loaded AbilityAPI, looked up once per AbilityAPI classloader; null if not loaded.
+     */
+    @Nullable
+    private static ServiceHandles service() {
+        ClassLoader cl = abilityClassLoader();
+        if (cl == null) {
+            return null;
+        }
+        ServiceHandles handles = serviceHandles;
+        if (handles != null && handles.classLoader == cl) {
+            return handles;
+        }
+        try {
+            handles = new ServiceHandles(cl);
+        } catch (ReflectiveOperationException e) {
+            LOGGER.log(Level.WARNING, "AbilityService lookup failed", e);
+            return null;
+        }
+        serviceHandles = handles;
+        return handles;
+    }
+
+    private static boolean invokeSetAbility(@Nonnull ServiceHandles handles, @Nonnull UUID uuid, @Nonnull String id, @Nonnull Object value) {
         try {
-            ClassLoader cl = abilityClassLoader();
-            if (cl == null) {
-                return false;
-            }
-            Class<?> service = cl.loadClass(SERVICE_CLASS);
-            Method method = service.getMethod("setAbility", UUID.class, String.class, Object.class);
-            method.invoke(null, uuid, id, value);
+            handles.setAbility.invoke(null, uuid, id, value);
             return true;
         } catch (ReflectiveOperationException e) {
             LOGGER.log(Level.WARNING, "setAbility failed for " + id, e);
@@ -210,52 +308,30 @@ public final class AbilityApiBridge {
         }
     }
 
-    private static void invokeRemoveAbility(@Nonnull UUID uuid, @Nonnull String id) {
+    private static void invokeRemoveAbility(@Nonnull ServiceHandles handles, @Nonnull UUID uuid, @Nonnull String id) {
         try {
-            ClassLoader cl = abilityClassLoader();
-            if (cl == null) {
-                return;
-            }
-            Class<?> service = cl.loadClass(SERVICE_CLASS);
-            Method method = service.getMethod("removeAbility", UUID.class, String.class);
-            method.invoke(null, uuid, id);
+            handles.removeAbility.invoke(null, uuid, id);
         } catch (ReflectiveOperationException e) {
             LOGGER.log(Level.WARNING, "removeAbility failed for " + id, e);
         }
     }
 
-    private static void invokeSetConditions(@Nonnull UUID uuid, @Nonnull String id, @Nonnull List<Object> conditions) {
+    private static void invokeSetConditions(@Nonnull ServiceHandles handles, @Nonnull UUID uuid, @Nonnull String id, @Nonnull List<Object> conditions) {
         try {
-            ClassLoader cl = abilityClassLoader();
-            if (cl == null) {
-                return;
-            }
-            Class<?> service = cl.loadClass(SERVICE_CLASS);
-            Method method = service.getMethod("setConditions", UUID.class, String.class, List.class);
-            method.invoke(null, uuid, id, conditions);
+            handles.setConditions.invoke(null, uuid, id, conditions);
         } catch (ReflectiveOperationException e) {
             LOGGER.log(Level.WARNING, "setConditions failed for " + id, e);
         }
     }
 
     private static void invokeApplyForPlayer(
+            @Nonnull ServiceHandles handles,
             @Nonnull Ref<EntityStore> ref,
             @Nonnull ComponentAccessor<EntityStore> store,
             @Nonnull World world
     ) {
         try {
-            ClassLoader cl = abilityClassLoader();
-            if (cl == null) {
-                return;
-            }
-            Class<?> service = cl.loadClass(SERVICE_CLASS);
-            Method method = service.getMethod(
-                    "applyForPlayer",
-                    Ref.class,
-                    ComponentAccessor.class,
-                    World.class
-            );
-            method.invoke(null, ref, store, world);
+            handles.applyForPlayer.invoke(null, ref, store, world);
         } catch (ReflectiveOperationException e) {
             LOGGER.log(Level.WARNING, "applyForPlayer failed", e);
         }
@@ -11,10 +11,10 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hexvane.orbisorigins.data.PlayerSpeciesData;
+import com.hexvane.orbisorigins.species.ApplyPlan;
 import com.hexvane.orbisorigins.species.SpeciesData;
 import com.hexvane.orbisorigins.species.SpeciesRegistry;
 import com.hexvane.orbisorigins.util.ModelUtil;
-import java.util.Map;
 import javax.annotation.Nonnull;
 
 /**
@@ -68,41 +68,27 @@ public class OriginsHideModelCommand extends AbstractPlayerCommand {
             wantHide = !PlayerSpeciesData.getSpeciesModelHidden(ref, store);
         }
 
+        PlayerSpeciesData.setSpeciesModelHidden(ref, store, wantHide);
+        String speciesId = PlayerSpeciesData.hasChosenSpecies(ref, store, world)
+                ? PlayerSpeciesData.getEffectiveSpeciesId(ref, store, world) : null;
+        SpeciesData species = speciesId != null ? SpeciesRegistry.getSpeciesOrDefault(speciesId) : null;
+
         if (wantHide) {
-            PlayerSpeciesData.setSpeciesModelHidden(ref, store, true);
-            ModelUtil.resetToPlayerSkin(ref, store);
+            if (species != null) {
+                species.getApplyPlan().apply(ref, store, world, ApplyPlan.Selection.stored(ref, store, world), ApplyPlan.MODEL);
+            } else {
+                ModelUtil.resetToPlayerSkin(ref, store);
+            }
             context.sendMessage(Message.raw("[Orbis Origins] Species model hidden. You now appear as your default skin."));
             return;
         }
 
-        // Show: clear flag and re-apply species model
-        PlayerSpeciesData.setSpeciesModelHidden(ref, store, false);
-        if (!PlayerSpeciesData.hasChosenSpecies(ref, store, world)) {
+        // Show: flag cleared above, re-apply species model
+        if (species == null) {
             context.sendMessage(Message.raw("[Orbis Origins] Species model shown. (You have not chosen a species yet.)"));
             return;
         }
-        String speciesId = PlayerSpeciesData.getEffectiveSpeciesId(ref, store, world);
-        int variantIndex = PlayerSpeciesData.getEffectiveVariantIndex(ref, store, world);
-        if (speciesId == null) {
-            context.sendMessage(Message.raw("[Orbis Origins] Species model shown."));
-            return;
-        }
-        SpeciesData species = SpeciesRegistry.getSpeciesOrDefault(speciesId);
-        if (species == null || species.usesPlayerModel()) {
-            context.sendMessage(Message.raw("[Orbis Origins] Species model shown."));
-            return;
-        }
-        Map<String, String> attachmentSelections = PlayerSpeciesData.getAttachmentSelections(ref, store, world);
-        String textureSelection = PlayerSpeciesData.getTextureSelection(ref, store, world);
-        if (species.isVersion2()) {
-            ModelUtil.applyModelToPlayerV2(ref, store, species, variantIndex, textureSelection, attachmentSelections);
-        } else {
-            String modelName = species.getModelName(variantIndex);
-            float eyeHeightModifier = species.getEyeHeightModifier(modelName);
-            float hitboxHeightModifier = species.getHitboxHeightModifier(modelName);
-            float scale = species.getModelScale(variantIndex);
-            ModelUtil.applyModelToPlayer(ref, store, modelName, eyeHeightModifier, hitboxHeightModifier, attachmentSelections, scale);
-        }
+        species.getApplyPlan().apply(ref, store, world, ApplyPlan.Selection.stored(ref, store, world), ApplyPlan.MODEL);
         context.sendMessage(Message.raw("[Orbis Origins] Species model shown."));
     }
 }
@@ -8,12 +8,11 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hexvane.orbisorigins.OrbisOriginsPlugin;
-import com.hexvane.orbisorigins.ability.AbilityApiBridge;
 import com.hexvane.orbisorigins.data.PlayerSpeciesData;
+import com.hexvane.orbisorigins.species.ApplyPlan;
 import com.hexvane.orbisorigins.species.SpeciesData;
 import com.hexvane.orbisorigins.species.SpeciesRegistry;
-import com.hexvane.orbisorigins.util.ModelUtil;
-import com.hexvane.orbisorigins.util.SpeciesStatUtil;
+import com.hexvane.orbisorigins.util.PathInterner;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
 
@@ -39,6 +38,7 @@ public class OriginsReloadCommand extends CommandBase {
             SpeciesRegistry.initialize(plugin.getDataDirectory());
             int speciesCount = SpeciesRegistry.getAllSpecies().size();
             context.sendMessage(Message.raw("[Orbis Origins] Loaded " + speciesCount + " species"));
+            LOGGER.info("OriginsReloadCommand: " + PathInterner.report());
 
             // Reapply species to all online players
             // We need to execute on each world's thread, so we'll collect the work and execute it
@@ -61,6 +61,9 @@ public class OriginsReloadCommand extends CommandBase {
                             continue;
                         }
 
+                        // Species may have been removed or switched to the player model
+                        PlayerSpeciesData.syncSpeciesComponents(ref, store, world);
+
                         // Check if player has chosen a species
                         if (!PlayerSpeciesData.hasChosenSpecies(ref, store, world)) {
                             continue;
@@ -68,7 +71,6 @@ public class OriginsReloadCommand extends CommandBase {
 
                         // Use effective species so that removed species fall back to default without breaking
                         String speciesId = PlayerSpeciesData.getEffectiveSpeciesId(ref, store, world);
-                        int variantIndex = PlayerSpeciesData.getEffectiveVariantIndex(ref, store, world);
 
                         if (speciesId == null) {
                             continue;
@@ -84,29 +86,9 @@ public class OriginsReloadCommand extends CommandBase {
                             LOGGER.info("OriginsReloadCommand: Player " + playerRef.getUuid() + " had removed species '" + storedId + "', reapplying as " + speciesId);
                         }
 
-                        // Reapply stats
-                        SpeciesStatUtil.applySpeciesStats(ref, store, species);
-
-                        if (AbilityApiBridge.isAvailable() && !species.getAbilities().isEmpty()) {
-                            AbilityApiBridge.applySpeciesAbilities(playerRef, ref, store, world, species);
-                        }
-
-                        // Reapply model (if not orbian)
-                        if (!species.usesPlayerModel()) {
-                            if (species.isVersion2()) {
-                                java.util.Map<String, String> attachmentSelections = PlayerSpeciesData.getAttachmentSelections(ref, store, world);
-                                String textureSelection = PlayerSpeciesData.getTextureSelection(ref, store, world);
-                                ModelUtil.applyModelToPlayerV2(ref, store, species, variantIndex, textureSelection, attachmentSelections);
-                            } else {
-                                String modelName = species.getModelName(variantIndex);
-                                float eyeHeightModifier = species.getEyeHeightModifier(modelName);
-                                float hitboxHeightModifier = species.getHitboxHeightModifier(modelName);
-                                float scale = species.getModelScale(variantIndex);
-                                ModelUtil.applyModelToPlayer(ref, store, modelName, eyeHeightModifier, hitboxHeightModifier, null, scale);
-                            }
-                        } else {
-                            ModelUtil.resetToPlayerSkin(ref, store);
-                        }
+                        // Reapply stats, abilities and model (steps whose definition did not change are skipped)
+                        species.getApplyPlan().apply(ref, store, world, ApplyPlan.Selection.stored(ref, store, world),
+                                ApplyPlan.STATS | ApplyPlan.ABILITIES | ApplyPlan.MODEL);
 
                         playersUpdated++;
                     }
@@ -0,0 +1,58 @@
+package com.hexvane.orbisorigins.commands;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.OptionalArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.command.system.basecommands.CommandBase;
+import com.hexvane.orbisorigins.species.SpeciesMergeTable;
+import com.hexvane.orbisorigins.species.SpeciesRegistry;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * Command to show where each species definition came from (which pack/file won, and what it overrode).
+ * Usage: /origins sources [speciesId] — omit the id to list every species.
+ */
+public class OriginsSourcesCommand extends CommandBase {
+
+    @Nonnull
+    private final OptionalArg<String> speciesArg = this.withOptionalArg(
+            "speciesId",
+            "Only show the sources of this species",
+            ArgTypes.STRING
+    );
+
+    public OriginsSourcesCommand() {
+        super("sources", "Shows which pack or file each species definition was loaded from");
+    }
+
+    @Override
+    protected void executeSync(@Nonnull CommandContext context) {
+        if (speciesArg.provided(context)) {
+            String speciesId = speciesArg.get(context);
+            SpeciesMergeTable.Entry entry = speciesId != null ? SpeciesRegistry.getSource(speciesId.trim()) : null;
+            if (entry == null) {
+                context.sendMessage(Message.raw("[Orbis Origins] Unknown species: " + speciesId));
+                return;
+            }
+            sendEntry(context, entry);
+            return;
+        }
+
+        List<SpeciesMergeTable.Entry> entries = SpeciesRegistry.getSources();
+        context.sendMessage(Message.raw("[Orbis Origins] " + entries.size() + " species registered:"));
+        for (SpeciesMergeTable.Entry entry : entries) {
+            sendEntry(context, entry);
+        }
+    }
+
+    private static void sendEntry(@Nonnull CommandContext context, @Nonnull SpeciesMergeTable.Entry entry) {
+        String id = entry.getSpecies().getId();
+        String disabled = entry.getSpecies().isEnabled() ? "" : " [disabled]";
+        context.sendMessage(Message.raw("  " + id + disabled + " <- " + entry.describe()));
+        for (String overridden : entry.getOverriddenSources()) {
+            context.sendMessage(Message.raw("    overrides " + overridden));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.hexvane.orbisorigins.commands;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.basecommands.CommandBase;
+import com.hexvane.orbisorigins.systems.SpeciesAdmissionSystem;
+import com.hexvane.orbisorigins.systems.SpeciesModelMaintenanceSystem;
+import com.hexvane.orbisorigins.util.SpeciesModelCache;
+import java.util.Map;
+import java.util.SortedMap;
+import javax.annotation.Nonnull;
+
+/**
+ * Command to show runtime metrics of the species systems.
+ * Usage: /origins stats
+ */
+public class OriginsStatsCommand extends CommandBase {
+
+    public OriginsStatsCommand() {
+        super("stats", "Shows runtime metrics of the species model systems");
+    }
+
+    @Override
+    protected void executeSync(@Nonnull CommandContext context) {
+        long checks = SpeciesModelMaintenanceSystem.getCheckCount();
+        long overwrites = SpeciesModelMaintenanceSystem.getOverwriteCount();
+        context.sendMessage(Message.raw("[Orbis Origins] Model maintenance: " + checks + " check(s), "
+                + overwrites + " overwrite(s) found"));
+
+        SortedMap<Integer, Integer> distribution = SpeciesModelMaintenanceSystem.getIntervalDistribution();
+        if (distribution.isEmpty()) {
+            context.sendMessage(Message.raw("  No players scheduled"));
+        }
+        for (Map.Entry<Integer, Integer> entry : distribution.entrySet()) {
+            context.sendMessage(Message.raw("  every " + entry.getKey() + " ticks: " + entry.getValue() + " player(s)"));
+        }
+
+        context.sendMessage(Message.raw(String.format(
+                "[Orbis Origins] Join admission: %d waiting (peak %d), %d admitted, wait avg %.1f ms / max %.1f ms",
+                SpeciesAdmissionSystem.getQueueDepth(),
+                SpeciesAdmissionSystem.getPeakQueueDepth(),
+                SpeciesAdmissionSystem.getAdmittedCount(),
+                SpeciesAdmissionSystem.getAverageWaitMillis(),
+                SpeciesAdmissionSystem.getMaxWaitMillis())));
+
+        context.sendMessage(Message.raw("[Orbis Origins] Model cache: " + SpeciesModelCache.size() + " model(s), "
+                + SpeciesModelCache.getHitCount() + " hit(s), " + SpeciesModelCache.getMissCount() + " miss(es)"));
+    }
+}
@@ -7,7 +7,7 @@ import javax.annotation.Nonnull;
 
 /**
  * Mod configuration loaded from the plugin data directory (config.json).
- * Defaults preserve backward compatibility: both options are true.
+ * Defaults preserve backward compatibility: selector options are true; models are enforced on change and polled every 1-10 minutes.
  */
 public final class OrbisOriginsConfig {
 
@@ -28,10 +28,52 @@ public final class OrbisOriginsConfig {
             c -> c.allowCraftingSpeciesSelector
         )
         .add()
+        .append(
+            new KeyedCodec<>("EventDrivenModelEnforcement", Codec.BOOLEAN),
+            (c, v) -> c.eventDrivenModelEnforcement = v,
+            c -> c.eventDrivenModelEnforcement
+        )
+        .add()
+        .append(
+            new KeyedCodec<>("ModelMaintenanceIntervalTicks", Codec.INTEGER),
+            (c, v) -> c.modelMaintenanceIntervalTicks = v,
+            c -> c.modelMaintenanceIntervalTicks
+        )
+        .add()
+        .append(
+            new KeyedCodec<>("ModelMaintenanceMaxIntervalTicks", Codec.INTEGER),
+            (c, v) -> c.modelMaintenanceMaxIntervalTicks = v,
+            c -> c.modelMaintenanceMaxIntervalTicks
+        )
+        .add()
+        .append(
+            new KeyedCodec<>("ModelMaintenanceRecheckTicks", Codec.INTEGER),
+            (c, v) -> c.modelMaintenanceRecheckTicks = v,
+            c -> c.modelMaintenanceRecheckTicks
+        )
+        .add()
+        .append(
+            new KeyedCodec<>("JoinApplyBudgetMicros", Codec.INTEGER),
+            (c, v) -> c.joinApplyBudgetMicros = v,
+            c -> c.joinApplyBudgetMicros
+        )
+        .add()
+        .append(
+            new KeyedCodec<>("PrewarmModelCache", Codec.BOOLEAN),
+            (c, v) -> c.prewarmModelCache = v,
+            c -> c.prewarmModelCache
+        )
+        .add()
         .build();
 
     private boolean giveSpeciesSelectorOnFirstJoin = true;
     private boolean allowCraftingSpeciesSelector = true;
+    private boolean eventDrivenModelEnforcement = true;
+    private int modelMaintenanceIntervalTicks = 1200;
+    private int modelMaintenanceMaxIntervalTicks = 12000;
+    private int modelMaintenanceRecheckTicks = 5;
+    private int joinApplyBudgetMicros = 2000;
+    private boolean prewarmModelCache = false;
 
     public boolean isGiveSpeciesSelectorOnFirstJoin() {
         return giveSpeciesSelectorOnFirstJoin;
@@ -40,4 +82,56 @@ public final class OrbisOriginsConfig {
     public boolean isAllowCraftingSpeciesSelector() {
         return allowCraftingSpeciesSelector;
     }
+
+    /**
+     * Whether overwritten species models are restored as soon as the ModelComponent changes.
+     */
+    public boolean isEventDrivenModelEnforcement() {
+        return eventDrivenModelEnforcement;
+    }
+
+    /**
+     * Ticks between periodic species model checks for each player (players are spread evenly across the window).
+     * 0 or less disables polling. The default (1 minute) is a safety net behind event-driven enforcement;
+     * use a short interval such as 20 if event-driven enforcement is turned off.
+     */
+    public int getModelMaintenanceIntervalTicks() {
+        return Math.max(0, modelMaintenanceIntervalTicks);
+    }
+
+    /**
+     * Ceiling for the per-player check interval: while checks keep finding the model correct the interval
+     * doubles from ModelMaintenanceIntervalTicks up to this value, and restarts from
+     * ModelMaintenanceRecheckTicks after an overwrite. A value at or below ModelMaintenanceIntervalTicks turns
+     * the backoff off.
+     */
+    public int getModelMaintenanceMaxIntervalTicks() {
+        return Math.max(getModelMaintenanceIntervalTicks(), modelMaintenanceMaxIntervalTicks);
+    }
+
+    /**
+     * Ticks until a player's model is checked again after an overwrite was seen, so a plugin that keeps
+     * overwriting it is caught within a few ticks. The interval then doubles again while the model stays correct.
+     */
+    public int getModelMaintenanceRecheckTicks() {
+        return Math.max(1, modelMaintenanceRecheckTicks);
+    }
+
+    /**
+     * Time per tick and world (microseconds) spent applying species to players who just joined; the rest
+     * wait in a queue for later ticks. At least one player is admitted per tick. 0 or less applies every
+     * player immediately on join.
+     */
+    public int getJoinApplyBudgetMicros() {
+        return Math.max(0, joinApplyBudgetMicros);
+    }
+
+    /**
+     * Whether the models of stored player selections are built on background threads after species or models
+     * (re)load, instead of on the world thread when each player joins. Trades CPU on every (re)load and cache
+     * memory (up to half of the model cache, for players who may never return) for faster joins; off by default.
+     */
+    public boolean isPrewarmModelCache() {
+        return prewarmModelCache;
+    }
 }
@@ -0,0 +1,117 @@
+package com.hexvane.orbisorigins.data;
+
+import com.hypixel.hytale.codec.Codec;
+import com.hypixel.hytale.codec.KeyedCodec;
+import com.hypixel.hytale.codec.builder.BuilderCodec;
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hexvane.orbisorigins.OrbisOriginsPlugin;
+import javax.annotation.Nonnull;
+
+/**
+ * Persisted fingerprints of the species state last applied to a player entity, saved with the entity next to
+ * the stat modifiers and model they describe. When a player is loaded (relog, world transfer) each apply step
+ * whose fingerprint still matches is skipped. 0 means the step has not been applied. The stats fingerprint
+ * includes the stat slot layout, so it stops matching when stat types are re-indexed; the abilities fingerprint
+ * is salted per server session and never matches after a restart, since AbilityAPI keeps grants in memory.
+ * See {@link com.hexvane.orbisorigins.util.AppliedSpeciesFingerprint}.
+ */
+public class AppliedSpeciesComponent implements Component<EntityStore> {
+
+    @Nonnull
+    public static final BuilderCodec<AppliedSpeciesComponent> CODEC = BuilderCodec.builder(
+            AppliedSpeciesComponent.class,
+            AppliedSpeciesComponent::new
+        )
+        .append(
+            new KeyedCodec<>("Stats", Codec.LONG),
+            (c, v) -> c.stats = v,
+            c -> c.stats
+        )
+        .add()
+        .append(
+            new KeyedCodec<>("Abilities", Codec.LONG),
+            (c, v) -> c.abilities = v,
+            c -> c.abilities
+        )
+        .add()
+        .append(
+            new KeyedCodec<>("Selection", Codec.LONG),
+            (c, v) -> c.selection = v,
+            c -> c.selection
+        )
+        .add()
+        .append(
+            new KeyedCodec<>("Model", Codec.LONG),
+            (c, v) -> c.model = v,
+            c -> c.model
+        )
+        .add()
+        .build();
+
+    private long stats;
+    private long abilities;
+    private long selection;
+    private long model;
+    /** Stat slot layout orphaned modifiers were last swept under; not saved, so a loaded entity is swept once. */
+    private int sweptStatLayout;
+
+    public static ComponentType<EntityStore, AppliedSpeciesComponent> getComponentType() {
+        return OrbisOriginsPlugin.getInstance().getAppliedSpeciesComponentType();
+    }
+
+    /** Species stat modifiers applied, and the stat slot layout they were applied under. */
+    public long getStats() {
+        return stats;
+    }
+
+    public void setStats(long stats) {
+        this.stats = stats;
+    }
+
+    /** Species abilities granted (only valid for the server session that granted them). */
+    public long getAbilities() {
+        return abilities;
+    }
+
+    public void setAbilities(long abilities) {
+        this.abilities = abilities;
+    }
+
+    /** {@link com.hexvane.orbisorigins.util.SpeciesStatUtil.StatIndices#layout} of the last orphan sweep, or 0. */
+    public int getSweptStatLayout() {
+        return sweptStatLayout;
+    }
+
+    public void setSweptStatLayout(int sweptStatLayout) {
+        this.sweptStatLayout = sweptStatLayout;
+    }
+
+    /** Species, variant, selections and variant definition the model was built from. */
+    public long getSelection() {
+        return selection;
+    }
+
+    /** Appearance of the model built for {@link #getSelection()}. */
+    public long getModel() {
+        return model;
+    }
+
+    public void setModel(long selection, long model) {
+        this.selection = selection;
+        this.model = model;
+    }
+
+    @Nonnull
+    @Override
+    public AppliedSpeciesComponent clone() {
+        AppliedSpeciesComponent copy = new AppliedSpeciesComponent();
+        copy.stats = stats;
+        copy.abilities = abilities;
+        copy.selection = selection;
+        copy.model = model;
+        copy.sweptStatLayout = sweptStatLayout;
+        return copy;
+    }
+}
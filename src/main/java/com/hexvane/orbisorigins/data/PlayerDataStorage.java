@@ -1,5 +1,6 @@
 package com.hexvane.orbisorigins.data;
 
+import com.hexvane.orbisorigins.util.PathInterner;
 import com.nimbusds.jose.shaded.gson.Gson;
 import com.nimbusds.jose.shaded.gson.GsonBuilder;
 import com.nimbusds.jose.shaded.gson.JsonElement;
@@ -8,7 +9,9 @@ import com.nimbusds.jose.shaded.gson.reflect.TypeToken;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -86,6 +89,14 @@ public class PlayerDataStorage {
         return SPECIES_STORAGE.get(playerId);
     }
 
+    /**
+     * Every stored species selection (a copy; safe to iterate from any thread).
+     */
+    @Nonnull
+    public static List<PlayerSpeciesData.SpeciesSelection> getAllSpeciesSelections() {
+        return new ArrayList<>(SPECIES_STORAGE.values());
+    }
+
     public static void setSpeciesSelection(
             @Nonnull UUID playerId,
             @Nonnull String speciesId,
@@ -110,9 +121,29 @@ public class PlayerDataStorage {
             @Nonnull Map<String, String> attachmentSelections,
             @javax.annotation.Nullable String textureSelection
     ) {
-        SPECIES_STORAGE.put(playerId, new PlayerSpeciesData.SpeciesSelection(speciesId, variantIndex, true, attachmentSelections, textureSelection));
+        SPECIES_STORAGE.put(playerId, newSelection(speciesId, variantIndex, true, attachmentSelections, textureSelection));
         saveSpeciesData();
     }
+
+    /**
+     * Builds a selection whose id, slot names, option names and texture path are the interned instances,
+     * so many players with the same species share one copy of each string.
+     */
+    @Nonnull
+    private static PlayerSpeciesData.SpeciesSelection newSelection(
+            @Nonnull String speciesId,
+            int variantIndex,
+            boolean hasChosen,
+            @Nonnull Map<String, String> attachmentSelections,
+            @Nullable String textureSelection
+    ) {
+        Map<String, String> interned = new HashMap<>();
+        for (Map.Entry<String, String> e : attachmentSelections.entrySet()) {
+            interned.put(PathInterner.intern(e.getKey()), PathInterner.intern(e.getValue()));
+        }
+        return new PlayerSpeciesData.SpeciesSelection(
+                PathInterner.intern(speciesId), variantIndex, hasChosen, interned, PathInterner.intern(textureSelection));
+    }
     
     // ========== First Join Tracking ==========
     // Tracks whether a player has ever received the species selector (server-wide, not per-world).
@@ -216,7 +247,7 @@ public class PlayerDataStorage {
         }
         String textureSelection = (obj.has("textureSelection") && !obj.get("textureSelection").isJsonNull())
                 ? obj.get("textureSelection").getAsString() : null;
-        return new PlayerSpeciesData.SpeciesSelection(speciesId, variantIndex, hasChosen, attachmentSelections, textureSelection);
+        return newSelection(speciesId, variantIndex, hasChosen, attachmentSelections, textureSelection);
     }
     
     private static void saveSpeciesData() {
@@ -131,6 +131,7 @@ public class PlayerSpeciesData {
             return;
         }
         PlayerDataStorage.setSpeciesSelection(playerId, speciesId, variantIndex, attachmentSelections, textureSelection);
+        syncSpeciesComponents(ref, store, world);
     }
 
     @Nullable
@@ -248,6 +249,52 @@ public class PlayerSpeciesData {
         UUID playerId = getPlayerUuid(ref, store);
         if (playerId != null) {
             PlayerDataStorage.setSpeciesModelHidden(playerId, hidden);
+            World world = store.getExternalData().getWorld();
+            if (world != null) {
+                syncSpeciesComponents(ref, store, world);
+            }
+        }
+    }
+
+    /**
+     * Adds, updates or removes the player's {@link SpeciesComponent} and {@link SpeciesModelTag} to match
+     * their stored selection. Call after anything that changes the selection, the hidden flag or the registry.
+     */
+    public static void syncSpeciesComponents(@Nonnull Ref<EntityStore> ref, @Nonnull Store<EntityStore> store, @Nonnull World world) {
+        syncSpeciesComponents(ref, store, world, store);
+    }
+
+    /**
+     * As {@link #syncSpeciesComponents(Ref, Store, World)}, writing through {@code writer}
+     * (a command buffer when called from inside a system).
+     */
+    public static void syncSpeciesComponents(
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull World world,
+            @Nonnull ComponentAccessor<EntityStore> writer
+    ) {
+        String speciesId = hasChosenSpecies(ref, store, world) ? getEffectiveSpeciesId(ref, store, world) : null;
+        SpeciesData species = speciesId != null ? SpeciesRegistry.getSpeciesOrDefault(speciesId) : null;
+
+        SpeciesComponent component = store.getComponent(ref, SpeciesComponent.getComponentType());
+        if (species == null) {
+            if (component != null) {
+                writer.removeComponent(ref, SpeciesComponent.getComponentType());
+            }
+        } else if (component == null) {
+            writer.putComponent(ref, SpeciesComponent.getComponentType(),
+                    new SpeciesComponent(species.getId(), getEffectiveVariantIndex(ref, store, world)));
+        } else {
+            component.set(species.getId(), getEffectiveVariantIndex(ref, store, world));
+        }
+
+        boolean showModel = species != null && !species.usesPlayerModel() && !getSpeciesModelHidden(ref, store);
+        boolean tagged = store.getComponent(ref, SpeciesModelTag.getComponentType()) != null;
+        if (showModel && !tagged) {
+            writer.putComponent(ref, SpeciesModelTag.getComponentType(), SpeciesModelTag.INSTANCE);
+        } else if (!showModel && tagged) {
+            writer.removeComponent(ref, SpeciesModelTag.getComponentType());
         }
     }
 }
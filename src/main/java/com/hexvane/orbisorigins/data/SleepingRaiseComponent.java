@@ -0,0 +1,45 @@
+package com.hexvane.orbisorigins.data;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hexvane.orbisorigins.OrbisOriginsPlugin;
+import javax.annotation.Nonnull;
+
+/**
+ * Runtime sleeping-raise state of a species player: whether they are raised for a bed and by how much. Lives and dies with the entity, so nothing is kept for players who left.
+ */
+public class SleepingRaiseComponent implements Component<EntityStore> {
+    private boolean sleeping;
+    private float raised;
+
+    public static ComponentType<EntityStore, SleepingRaiseComponent> getComponentType() {
+        return OrbisOriginsPlugin.getInstance().getSleepingRaiseComponentType();
+    }
+
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    public void setSleeping(boolean sleeping) {
+        this.sleeping = sleeping;
+    }
+
+    /** Height (blocks) the position is currently raised by; 0 when not raised. */
+    public float getRaised() {
+        return raised;
+    }
+
+    public void setRaised(float raised) {
+        this.raised = raised;
+    }
+
+    @Nonnull
+    @Override
+    public SleepingRaiseComponent clone() {
+        SleepingRaiseComponent copy = new SleepingRaiseComponent();
+        copy.sleeping = sleeping;
+        copy.raised = raised;
+        return copy;
+    }
+}
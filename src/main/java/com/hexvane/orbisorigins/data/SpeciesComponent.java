@@ -0,0 +1,53 @@
+package com.hexvane.orbisorigins.data;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hexvane.orbisorigins.OrbisOriginsPlugin;
+import javax.annotation.Nonnull;
+
+/**
+ * Runtime (not persisted) component on players who have chosen a species, holding their effective
+ * species id and variant index. Lets systems query species players directly instead of visiting every
+ * player and looking the selection up in {@link PlayerDataStorage}.
+ * Kept in sync by {@link PlayerSpeciesData#syncSpeciesComponents}.
+ */
+public class SpeciesComponent implements Component<EntityStore> {
+    private String speciesId;
+    private int variantIndex;
+
+    public SpeciesComponent() {
+        this("", 0);
+    }
+
+    public SpeciesComponent(@Nonnull String speciesId, int variantIndex) {
+        this.speciesId = speciesId;
+        this.variantIndex = variantIndex;
+    }
+
+    public static ComponentType<EntityStore, SpeciesComponent> getComponentType() {
+        return OrbisOriginsPlugin.getInstance().getSpeciesComponentType();
+    }
+
+    /** Effective species id (the default species if the chosen one was removed). */
+    @Nonnull
+    public String getSpeciesId() {
+        return speciesId;
+    }
+
+    /** Effective variant index, clamped to the species' variants. */
+    public int getVariantIndex() {
+        return variantIndex;
+    }
+
+    void set(@Nonnull String speciesId, int variantIndex) {
+        this.speciesId = speciesId;
+        this.variantIndex = variantIndex;
+    }
+
+    @Nonnull
+    @Override
+    public SpeciesComponent clone() {
+        return new SpeciesComponent(speciesId, variantIndex);
+    }
+}
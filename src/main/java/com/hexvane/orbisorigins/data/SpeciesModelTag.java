@@ -0,0 +1,28 @@
+package com.hexvane.orbisorigins.data;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hexvane.orbisorigins.OrbisOriginsPlugin;
+import javax.annotation.Nonnull;
+
+/**
+ * Runtime marker on species players whose species model should be shown: excludes species that use the
+ * player model and players who hid their species model. The model systems query on it.
+ * Kept in sync by {@link PlayerSpeciesData#syncSpeciesComponents}.
+ */
+public final class SpeciesModelTag implements Component<EntityStore> {
+    public static final SpeciesModelTag INSTANCE = new SpeciesModelTag();
+
+    private SpeciesModelTag() {}
+
+    public static ComponentType<EntityStore, SpeciesModelTag> getComponentType() {
+        return OrbisOriginsPlugin.getInstance().getSpeciesModelTagType();
+    }
+
+    @Nonnull
+    @Override
+    public SpeciesModelTag clone() {
+        return INSTANCE;
+    }
+}
@@ -18,7 +18,6 @@ import com.hypixel.hytale.server.core.asset.type.model.config.Model;
 import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.entity.entities.player.pages.InteractiveCustomUIPage;
-import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.modules.entity.component.HeadRotation;
 import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
 import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
@@ -33,12 +32,14 @@ import com.hypixel.hytale.server.core.util.TargetUtil;
 import com.hexvane.orbisorigins.data.PlayerSpeciesData;
 import com.hexvane.orbisorigins.OrbisOriginsPlugin;
 import com.hexvane.orbisorigins.ability.AbilityApiBridge;
+import com.hexvane.orbisorigins.species.ApplyPlan;
 import com.hexvane.orbisorigins.species.AttachmentOption;
 import com.hexvane.orbisorigins.species.SpeciesData;
 import com.hexvane.orbisorigins.species.SpeciesRegistry;
+import com.hexvane.orbisorigins.species.SpeciesStatModifier;
+import com.hexvane.orbisorigins.species.VariantView;
 import com.hexvane.orbisorigins.util.ModelUtil;
 import com.hexvane.orbisorigins.util.SpeciesCommandUtil;
-import com.hexvane.orbisorigins.util.SpeciesStatUtil;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -353,7 +354,21 @@ public class SpeciesSelectionPage extends InteractiveCustomUIPage<SpeciesSelecti
             }
             descriptionText.append("\n");
         }
-        
+
+        // Generic stat modifiers
+        for (SpeciesStatModifier statModifier : species.getStatModifiers()) {
+            float amount = statModifier.getAmount();
+            descriptionText.append("Max ").append(statModifier.getStatId()).append(": ");
+            if (statModifier.getType() == SpeciesStatModifier.Type.MULTIPLICATIVE) {
+                int percent = Math.round((amount - 1.0f) * 100);
+                descriptionText.append(percent >= 0 ? "+" : "").append(percent).append("%");
+            } else {
+                int rounded = Math.round(amount);
+                descriptionText.append(rounded >= 0 ? "+" : "").append(rounded);
+            }
+            descriptionText.append("\n");
+        }
+
         // Damage resistances
         Map<String, Float> resistances = species.getDamageResistances();
         if (!resistances.isEmpty()) {
@@ -480,7 +495,8 @@ public class SpeciesSelectionPage extends InteractiveCustomUIPage<SpeciesSelecti
                 return;
             }
         } else {
-            String modelName = species.getModelName(variantIndex);
+            VariantView view = species.getVariantView(variantIndex);
+            String modelName = view.getModelAssetId();
             com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset modelAsset = 
                 com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset.getAssetMap().getAsset(modelName);
             if (modelAsset == null) {
@@ -505,9 +521,8 @@ public class SpeciesSelectionPage extends InteractiveCustomUIPage<SpeciesSelecti
                     attachmentMap.remove(attachmentType);
                 }
             }
-            float scale = species.getModelScale(variantIndex);
             model = com.hypixel.hytale.server.core.asset.type.model.config.Model.createScaledModel(
-                modelAsset, scale, attachmentMap);
+                modelAsset, view.getScale(), attachmentMap);
         }
         
         TransformComponent transformComponent = store.getComponent(ref, TransformComponent.getComponentType());
@@ -729,7 +744,7 @@ public class SpeciesSelectionPage extends InteractiveCustomUIPage<SpeciesSelecti
 
         // Get current variant to discover attachments for
         int variantIndex = variantIndices.getOrDefault(selectedSpeciesId, 0);
-        String modelName = species.isVersion2() ? null : species.getModelName(variantIndex);
+        String modelName = species.isVersion2() ? null : species.getVariantView(variantIndex).getModelAssetId();
 
         // Get available attachments for this species/variant
         Map<String, Map<String, AttachmentOption>> availableAttachments = 
@@ -745,8 +760,8 @@ public class SpeciesSelectionPage extends InteractiveCustomUIPage<SpeciesSelecti
             }
         }
 
-        boolean hasTextureSelector = species.isVersion2() && species.getVariantData(variantIndex) != null
-            && species.getVariantData(variantIndex).getTextures().size() > 1;
+        com.hexvane.orbisorigins.species.SpeciesVariantData variantData = species.getVariantView(variantIndex).getVariant();
+        boolean hasTextureSelector = variantData != null && variantData.getTextures().size() > 1;
         if (nonEmptyTypes == 0 && !hasTextureSelector) {
             commandBuilder.set("#AttachmentSelectors.Visible", false);
             return;
@@ -758,28 +773,25 @@ public class SpeciesSelectionPage extends InteractiveCustomUIPage<SpeciesSelecti
 
         int attachmentIndex = 0;
         // For v2 with multiple textures, add texture selector as first item
-        if (species.isVersion2()) {
-            com.hexvane.orbisorigins.species.SpeciesVariantData variant = species.getVariantData(variantIndex);
-            if (variant != null && variant.getTextures().size() > 1) {
-                java.util.List<String> textures = variant.getTextures();
-                String currentTex = textureSelections.getOrDefault(selectedSpeciesId, textures.get(0));
-                if (!textures.contains(currentTex)) {
-                    currentTex = textures.get(0);
-                    textureSelections.put(selectedSpeciesId, currentTex);
-                }
-                String displayName = currentTex.substring(Math.max(0, currentTex.lastIndexOf('/') + 1)).replace(".png", "");
-                String selectorPrefix = "#AttachmentSelectors[" + attachmentIndex + "]";
-                commandBuilder.append("#AttachmentSelectors", "Pages/AttachmentSelector.ui");
-                commandBuilder.set(selectorPrefix + " #AttachmentTypeLabel.Text", "Texture:");
-                commandBuilder.set(selectorPrefix + " #AttachmentLabel.Text", displayName);
-                commandBuilder.set(selectorPrefix + " #AttachmentLeftArrow.Visible", true);
-                commandBuilder.set(selectorPrefix + " #AttachmentRightArrow.Visible", true);
-                eventBuilder.addEventBinding(CustomUIEventBindingType.Activating, selectorPrefix + " #AttachmentLeftArrow",
-                    EventData.of("Action", "PreviousTexture"), false);
-                eventBuilder.addEventBinding(CustomUIEventBindingType.Activating, selectorPrefix + " #AttachmentRightArrow",
-                    EventData.of("Action", "NextTexture"), false);
-                attachmentIndex++;
+        if (hasTextureSelector) {
+            java.util.List<String> textures = variantData.getTextures();
+            String currentTex = textureSelections.getOrDefault(selectedSpeciesId, textures.get(0));
+            if (!textures.contains(currentTex)) {
+                currentTex = textures.get(0);
+                textureSelections.put(selectedSpeciesId, currentTex);
             }
+            String displayName = currentTex.substring(Math.max(0, currentTex.lastIndexOf('/') + 1)).replace(".png", "");
+            String selectorPrefix = "#AttachmentSelectors[" + attachmentIndex + "]";
+            commandBuilder.append("#AttachmentSelectors", "Pages/AttachmentSelector.ui");
+            commandBuilder.set(selectorPrefix + " #AttachmentTypeLabel.Text", "Texture:");
+            commandBuilder.set(selectorPrefix + " #AttachmentLabel.Text", displayName);
+            commandBuilder.set(selectorPrefix + " #AttachmentLeftArrow.Visible", true);
+            commandBuilder.set(selectorPrefix + " #AttachmentRightArrow.Visible", true);
+            eventBuilder.addEventBinding(CustomUIEventBindingType.Activating, selectorPrefix + " #AttachmentLeftArrow",
+                EventData.of("Action", "PreviousTexture"), false);
+            eventBuilder.addEventBinding(CustomUIEventBindingType.Activating, selectorPrefix + " #AttachmentRightArrow",
+                EventData.of("Action", "NextTexture"), false);
+            attachmentIndex++;
         }
 
         // Get or initialize attachment selections for this species
@@ -874,7 +886,7 @@ public class SpeciesSelectionPage extends InteractiveCustomUIPage<SpeciesSelecti
 
         // Get current variant
         int variantIndex = variantIndices.getOrDefault(selectedSpeciesId, 0);
-        String modelName = species.isVersion2() ? null : species.getModelName(variantIndex);
+        String modelName = species.isVersion2() ? null : species.getVariantView(variantIndex).getModelAssetId();
 
         // Get available attachments
         Map<String, Map<String, AttachmentOption>> availableAttachments = 
@@ -952,29 +964,11 @@ public class SpeciesSelectionPage extends InteractiveCustomUIPage<SpeciesSelecti
             }
         }
 
-        // Apply model (if not orbian)
-        if (!species.usesPlayerModel()) {
-            if (species.isVersion2()) {
-                ModelUtil.applyModelToPlayerV2(ref, store, species, variantIndex, textureSelectionForSpecies, attachmentSelectionsForSpecies);
-            } else {
-                String modelName = species.getModelName(variantIndex);
-                float eyeHeightModifier = species.getEyeHeightModifier(modelName);
-                float hitboxHeightModifier = species.getHitboxHeightModifier(modelName);
-                ModelUtil.applyModelToPlayer(ref, store, modelName, eyeHeightModifier, hitboxHeightModifier, attachmentSelectionsForSpecies);
-            }
-        } else {
-            // Reset to player skin for orbian
-            ModelUtil.resetToPlayerSkin(ref, store);
-        }
-        
-        // Apply species stats
-        SpeciesStatUtil.applySpeciesStats(ref, store, species);
-        
-        // Give starter items
-        for (String itemId : species.getStarterItems()) {
-            ItemStack itemStack = new ItemStack(itemId, 1);
-            playerComponent.getInventory().getCombinedHotbarFirst().addItemStack(itemStack);
-        }
+        // Apply model (player skin for orbian), stats and starter items
+        ApplyPlan plan = species.getApplyPlan();
+        ApplyPlan.Selection selection = new ApplyPlan.Selection(variantIndex, textureSelectionForSpecies, attachmentSelectionsForSpecies);
+        plan.apply(ref, store, world, selection,
+                ApplyPlan.MODEL | ApplyPlan.STATS | ApplyPlan.STARTER_ITEMS | ApplyPlan.FORCE);
         
         // Store choice with attachment selections and texture selection
         PlayerSpeciesData.setSpeciesSelection(ref, store, world, selectedSpeciesId, variantIndex, attachmentSelectionsForSpecies, textureSelectionForSpecies);
@@ -995,7 +989,7 @@ public class SpeciesSelectionPage extends InteractiveCustomUIPage<SpeciesSelecti
                 }
             }
             // Apply new species abilities (via AbilityAPI plugin classloader).
-            AbilityApiBridge.applySpeciesAbilities(playerRef, ref, store, world, species);
+            plan.apply(ref, store, world, selection, ApplyPlan.ABILITIES | ApplyPlan.FORCE);
         }
 
         if (!sameSpecies) {
@@ -0,0 +1,273 @@
+package com.hexvane.orbisorigins.species;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
+import com.hypixel.hytale.server.core.modules.entitystats.modifier.StaticModifier;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hexvane.orbisorigins.ability.AbilityApiBridge;
+import com.hexvane.orbisorigins.data.AppliedSpeciesComponent;
+import com.hexvane.orbisorigins.data.PlayerSpeciesData;
+import com.hexvane.orbisorigins.util.AppliedModelCache;
+import com.hexvane.orbisorigins.util.AppliedSpeciesFingerprint;
+import com.hexvane.orbisorigins.util.ModelUtil;
+import com.hexvane.orbisorigins.util.SpeciesStatUtil;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A species compiled for applying to players: its stat modifier table, ability
+ * grants and starter items, resolved once when the species is registered. Variant views are not part of the
+ * plan; they come from the species, which parses v2 variants on first use. {@link #apply} is the one entry point the selection GUI, spawn, reload, hide/show and model
+ * enforcement paths use, so they all behave the same.
+ * <p>
+ * Steps are selected with the flags below. Unless {@link #FORCE} is given, a step the player's
+ * {@link AppliedSpeciesComponent} shows is already in place is skipped; every step applied is recorded there.
+ */
+public final class ApplyPlan {
+    public static final int STATS = 1;
+    public static final int ABILITIES = 1 << 1;
+    /** Species model, or the player's skin if the species uses the player model or the player hid it. */
+    public static final int MODEL = 1 << 2;
+    /** Gives the species' starter items (GUI confirmation only). */
+    public static final int STARTER_ITEMS = 1 << 3;
+    /** Apply the selected steps even if they are recorded as in place. */
+    public static final int FORCE = 1 << 4;
+
+    private final SpeciesData species;
+    /** Modifier per stat slot of {@link SpeciesStatUtil}, null where the species leaves it unchanged. */
+    private final StaticModifier[] statModifiers;
+    private final long statsFingerprint;
+    private final List<AbilityApiBridge.AbilityGrant> abilityGrants;
+    private final long abilitiesFingerprint;
+    private final List<String> starterItems;
+
+    private ApplyPlan(@Nonnull SpeciesData species) {
+        this.species = species;
+        this.statModifiers = SpeciesStatUtil.compileModifiers(species);
+        this.statsFingerprint = AppliedSpeciesFingerprint.stats(species);
+        this.abilityGrants = AbilityApiBridge.compileGrants(species.getAbilities());
+        this.abilitiesFingerprint = AppliedSpeciesFingerprint.abilities(species);
+        this.starterItems = species.getStarterItems();
+    }
+
+    /**
+     * Compiles the plan of a species. Use {@link SpeciesData#getApplyPlan()}, which keeps it.
+     */
+    @Nonnull
+    static ApplyPlan compile(@Nonnull SpeciesData species) {
+        return new ApplyPlan(species);
+    }
+
+    @Nonnull
+    public SpeciesData getSpecies() {
+        return species;
+    }
+
+    @Nonnull
+    public List<AbilityApiBridge.AbilityGrant> getAbilityGrants() {
+        return abilityGrants;
+    }
+
+    /**
+     * The player's variant, texture and attachment choices for this species.
+     */
+    public static final class Selection {
+        private final int variantIndex;
+        @Nullable
+        private final String textureSelection;
+        @Nullable
+        private final Map<String, String> attachmentSelections;
+
+        public Selection(int variantIndex, @Nullable String textureSelection, @Nullable Map<String, String> attachmentSelections) {
+            this.variantIndex = variantIndex;
+            this.textureSelection = textureSelection;
+            this.attachmentSelections = attachmentSelections;
+        }
+
+        /**
+         * The player's saved selection (effective variant index).
+         */
+        @Nonnull
+        public static Selection stored(@Nonnull Ref<EntityStore> ref, @Nonnull Store<EntityStore> store, @Nonnull World world) {
+            return new Selection(
+                    PlayerSpeciesData.getEffectiveVariantIndex(ref, store, world),
+                    PlayerSpeciesData.getTextureSelection(ref, store, world),
+                    PlayerSpeciesData.getAttachmentSelections(ref, store, world));
+        }
+    }
+
+    /**
+     * Applies the selected steps, recording them in the player's {@link AppliedSpeciesComponent} (added if missing).
+     * Must not be called while systems process the store (the component may be added); use
+     * {@link #apply(Ref, Store, World, Selection, AppliedSpeciesComponent, int)} there.
+     */
+    public void apply(
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull World world,
+            @Nonnull Selection selection,
+            int steps
+    ) {
+        AppliedSpeciesComponent applied = store.getComponent(ref, AppliedSpeciesComponent.getComponentType());
+        if (applied == null) {
+            applied = new AppliedSpeciesComponent();
+            store.putComponent(ref, AppliedSpeciesComponent.getComponentType(), applied);
+        }
+        apply(ref, store, world, selection, applied, steps);
+    }
+
+    /**
+     * Applies the selected steps, skipping and recording them against {@code applied} (null: always apply).
+     */
+    public void apply(
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull World world,
+            @Nonnull Selection selection,
+            @Nullable AppliedSpeciesComponent applied,
+            int steps
+    ) {
+        boolean force = (steps & FORCE) != 0 || applied == null;
+        if ((steps & MODEL) != 0) {
+            applyModel(ref, store, selection, applied, force);
+        }
+        if ((steps & STATS) != 0) {
+            applyStats(ref, store, applied, force);
+        }
+        if ((steps & STARTER_ITEMS) != 0) {
+            giveStarterItems(ref, store);
+        }
+        if ((steps & ABILITIES) != 0) {
+            applyAbilities(ref, store, world, applied, force);
+        }
+    }
+
+    /**
+     * Replaces the player's species stat modifiers with this species' (only those that differ).
+     */
+    public void applyStats(@Nonnull Ref<EntityStore> ref, @Nonnull Store<EntityStore> store) {
+        applyStats(ref, store, store.getComponent(ref, AppliedSpeciesComponent.getComponentType()), true);
+    }
+
+    private void applyStats(
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull Store<EntityStore> store,
+            @Nullable AppliedSpeciesComponent applied,
+            boolean force
+    ) {
+        SpeciesStatUtil.StatIndices indices = SpeciesStatUtil.resolveStatIndices();
+        if (indices == null) {
+            return;
+        }
+        long fingerprint = AppliedSpeciesFingerprint.stats(statsFingerprint, indices.layout);
+        if (force || applied == null || applied.getStats() != fingerprint) {
+            SpeciesStatUtil.applyStats(ref, store, indices.indices, statModifiers);
+            if (applied != null) {
+                applied.setStats(fingerprint);
+            }
+        }
+        // Modifiers no slot owns can only appear before the entity's first apply under this slot layout
+        if (applied == null || applied.getSweptStatLayout() != indices.layout) {
+            SpeciesStatUtil.removeOrphanedModifiers(ref, store, indices.indices);
+            if (applied != null) {
+                applied.setSweptStatLayout(indices.layout);
+            }
+        }
+    }
+
+    private void applyAbilities(
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull World world,
+            @Nullable AppliedSpeciesComponent applied,
+            boolean force
+    ) {
+        // Without FORCE, species without abilities leave AbilityAPI alone (a GUI switch clears the old ones first)
+        if (!AbilityApiBridge.isAvailable() || (!force && abilityGrants.isEmpty())) {
+            return;
+        }
+        if (!force && applied.getAbilities() == abilitiesFingerprint) {
+            return;
+        }
+        PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
+        if (playerRef == null) {
+            return;
+        }
+        AbilityApiBridge.grantAbilities(playerRef, ref, store, world, species.getId(), abilityGrants);
+        if (applied != null) {
+            applied.setAbilities(abilitiesFingerprint);
+        }
+    }
+
+    private void applyModel(
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull Selection selection,
+            @Nullable AppliedSpeciesComponent applied,
+            boolean force
+    ) {
+        if (species.usesPlayerModel() || PlayerSpeciesData.getSpeciesModelHidden(ref, store)) {
+            ModelUtil.resetToPlayerSkin(ref, store);
+            if (applied != null) {
+                applied.setModel(0, 0);
+            }
+            return;
+        }
+        VariantView view = getVariantView(selection.variantIndex);
+        String textureSelection = species.isVersion2() ? selection.textureSelection : null;
+        long selectionFingerprint = AppliedSpeciesFingerprint.selection(species, view, textureSelection, selection.attachmentSelections);
+        if (!force && applied.getSelection() == selectionFingerprint && carriesModel(ref, store, applied, view)) {
+            return;
+        }
+        ModelUtil.applySpeciesModel(ref, store, species, selection.variantIndex, textureSelection, selection.attachmentSelections);
+        ModelComponent model = store.getComponent(ref, ModelComponent.getComponentType());
+        if (applied != null && model != null && model.getModel() != null) {
+            applied.setModel(selectionFingerprint, AppliedSpeciesFingerprint.model(model.getModel()));
+        }
+    }
+
+    /**
+     * True if the player's current model is the one recorded in {@code applied}; it is then registered as
+     * the applied model so drift checks compare against it.
+     */
+    private static boolean carriesModel(@Nonnull Ref<EntityStore> ref, @Nonnull Store<EntityStore> store,
+                                        @Nonnull AppliedSpeciesComponent applied, @Nonnull VariantView view) {
+        ModelComponent current = store.getComponent(ref, ModelComponent.getComponentType());
+        PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
+        if (current == null || current.getModel() == null || playerRef == null
+                || AppliedSpeciesFingerprint.model(current.getModel()) != applied.getModel()) {
+            return false;
+        }
+        AppliedModelCache.record(playerRef.getUuid(), view, current.getModel());
+        return true;
+    }
+
+    private void giveStarterItems(@Nonnull Ref<EntityStore> ref, @Nonnull Store<EntityStore> store) {
+        if (starterItems.isEmpty()) {
+            return;
+        }
+        Player playerComponent = store.getComponent(ref, Player.getComponentType());
+        if (playerComponent == null) {
+            return;
+        }
+        for (String itemId : starterItems) {
+            playerComponent.getInventory().getCombinedHotbarFirst().addItemStack(new ItemStack(itemId, 1));
+        }
+    }
+
+    /**
+     * The view of a variant, built by the species on first use (v2 variants are parsed lazily);
+     * out-of-range indices get the species' fallback view.
+     */
+    @Nonnull
+    public VariantView getVariantView(int variantIndex) {
+        return species.getVariantView(variantIndex);
+    }
+}
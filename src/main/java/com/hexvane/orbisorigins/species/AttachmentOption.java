@@ -1,5 +1,6 @@
 package com.hexvane.orbisorigins.species;
 
+import com.hypixel.hytale.server.core.asset.type.model.config.ModelAttachment;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -10,6 +11,7 @@ public class AttachmentOption {
     private final String model;
     private final String texture;
     private final String displayName;
+    private final ModelAttachment modelAttachment;
 
     public AttachmentOption(@Nonnull String model, @Nonnull String texture) {
         this(model, texture, null);
@@ -19,6 +21,7 @@ public class AttachmentOption {
         this.model = model;
         this.texture = texture;
         this.displayName = displayName;
+        this.modelAttachment = new ModelAttachment(model, texture, null, null, 1.0);
     }
 
     @Nonnull
@@ -31,6 +34,12 @@ public class AttachmentOption {
         return texture;
     }
 
+    /** The option as added to built v2 models; shared, do not modify. */
+    @Nonnull
+    public ModelAttachment getModelAttachment() {
+        return modelAttachment;
+    }
+
     @Nullable
     public String getDisplayName() {
         return displayName;
@@ -2,11 +2,13 @@ package com.hexvane.orbisorigins.species;
 
 import com.hypixel.hytale.math.shape.Box;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -21,12 +23,15 @@ public class SpeciesData {
     private final String displayNameKey; // Optional language key override
     private final String modelBaseName;
     private final List<String> variants;
-    private final List<SpeciesVariantData> variantsV2;
+    /** v2 variants; each is built from its JSON on first access (see {@link SpeciesVariantSlot}). */
+    private final List<SpeciesVariantSlot> variantsV2;
     private final String description;
     private final String descriptionKey; // Optional language key override
     private final int healthModifier;
     private final int staminaModifier;
     private final int manaModifier;
+    /** Modifiers for any EntityStatType, in addition to the health/stamina/mana shorthands. */
+    private final List<SpeciesStatModifier> statModifiers;
     private final boolean enabled;
     /** When true, species has no custom model (uses default player appearance like Orbian). */
     private final boolean usePlayerModel;
@@ -36,6 +41,9 @@ public class SpeciesData {
     private final Map<String, Float> hitboxHeightModifiers; // Per-variant hitbox height modifiers (model name -> modifier in blocks)
     private final List<String> starterItems;
     private final Map<String, Float> damageResistances; // damage type -> resistance multiplier (0.0 = immune, 1.0 = no resistance, 0.5 = 50% reduction)
+    /** {@link #damageResistances} by DamageCause asset index; null until compiled, see {@link #compileDamageResistances}. */
+    @Nullable
+    private volatile float[] damageResistanceTable;
     /** Player model scale; 1.0 = default size. */
     private final float modelScale;
     /** Blocks to raise player position when sleeping; 0 = no raise. */
@@ -46,6 +54,14 @@ public class SpeciesData {
     private final List<String> selectCommands;
     /** Server commands run when the player leaves this species for another (GUI only). */
     private final List<String> deselectCommands;
+    /** Resolved view per variant index, filled on first access (v2 variants are built then). */
+    private final VariantView[] variantViews;
+    /** View for out-of-range variant indices (base model, species-level values, variant index -1). */
+    @Nullable
+    private volatile VariantView fallbackView;
+    /** Compiled on first use, see {@link #getApplyPlan()}. */
+    @Nullable
+    private volatile ApplyPlan applyPlan;
 
     public SpeciesData(
             @Nonnull String id,
@@ -58,7 +74,7 @@ public class SpeciesData {
             @Nonnull List<String> starterItems,
             @Nonnull Map<String, Float> damageResistances
     ) {
-        this(1, id, displayName, null, modelBaseName, variants, null, description, null, healthModifier, staminaModifier, 0, true, false, false, new HashMap<>(), new HashMap<>(), new HashMap<>(), starterItems, damageResistances, 1.0f, 0f, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        this(1, id, displayName, null, modelBaseName, variants, (List<SpeciesVariantData>) null, description, null, healthModifier, staminaModifier, 0, true, false, false, new HashMap<>(), new HashMap<>(), new HashMap<>(), starterItems, damageResistances, 1.0f, 0f, Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
     }
 
     public SpeciesData(
@@ -80,7 +96,7 @@ public class SpeciesData {
             @Nonnull List<String> starterItems,
             @Nonnull Map<String, Float> damageResistances
     ) {
-        this(1, id, displayName, displayNameKey, modelBaseName, variants, null, description, descriptionKey, healthModifier, staminaModifier, manaModifier, enabled, false, enableAttachmentDiscovery, manualAttachments, eyeHeightModifiers, hitboxHeightModifiers, starterItems, damageResistances, 1.0f, 0f, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        this(1, id, displayName, displayNameKey, modelBaseName, variants, (List<SpeciesVariantData>) null, description, descriptionKey, healthModifier, staminaModifier, manaModifier, enabled, false, enableAttachmentDiscovery, manualAttachments, eyeHeightModifiers, hitboxHeightModifiers, starterItems, damageResistances, 1.0f, 0f, Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
     }
 
     public SpeciesData(
@@ -109,14 +125,89 @@ public class SpeciesData {
             @Nonnull List<SpeciesAbilityConfig> abilities,
             @Nonnull List<String> selectCommands,
             @Nonnull List<String> deselectCommands
+    ) {
+        this(version, id, displayName, displayNameKey, modelBaseName, variants, variantsV2, description, descriptionKey,
+                healthModifier, staminaModifier, manaModifier, enabled, usePlayerModel, enableAttachmentDiscovery,
+                manualAttachments, eyeHeightModifiers, hitboxHeightModifiers, starterItems, damageResistances,
+                modelScale, sleepingRaiseHeight, abilities, selectCommands, deselectCommands, Collections.emptyList());
+    }
+
+    public SpeciesData(
+            int version,
+            @Nonnull String id,
+            @Nonnull String displayName,
+            @Nullable String displayNameKey,
+            @Nonnull String modelBaseName,
+            @Nonnull List<String> variants,
+            @Nullable List<SpeciesVariantData> variantsV2,
+            @Nonnull String description,
+            @Nullable String descriptionKey,
+            int healthModifier,
+            int staminaModifier,
+            int manaModifier,
+            boolean enabled,
+            boolean usePlayerModel,
+            boolean enableAttachmentDiscovery,
+            @Nonnull Map<String, Map<String, AttachmentOption>> manualAttachments,
+            @Nonnull Map<String, Float> eyeHeightModifiers,
+            @Nonnull Map<String, Float> hitboxHeightModifiers,
+            @Nonnull List<String> starterItems,
+            @Nonnull Map<String, Float> damageResistances,
+            float modelScale,
+            float sleepingRaiseHeight,
+            @Nonnull List<SpeciesAbilityConfig> abilities,
+            @Nonnull List<String> selectCommands,
+            @Nonnull List<String> deselectCommands,
+            @Nonnull List<SpeciesStatModifier> statModifiers
+    ) {
+        this(version, id, displayName, displayNameKey, modelBaseName,
+                copyList(variants != null ? variants : Collections.emptyList()),
+                toSlots(variantsV2), description, descriptionKey, healthModifier, staminaModifier, manaModifier, enabled, usePlayerModel, enableAttachmentDiscovery,
+                copyAttachments(manualAttachments), copyMap(eyeHeightModifiers), copyMap(hitboxHeightModifiers),
+                copyList(starterItems), copyMap(damageResistances), modelScale, sleepingRaiseHeight,
+                copyList(abilities), copyList(selectCommands), copyList(deselectCommands), copyList(statModifiers));
+    }
+
+    /**
+     * Used by {@link SpeciesJsonCodec} so v2 variants stay unparsed until first selected.
+     * Collections are stored without copying so species built from a template can share its lists and maps;
+     * callers must pass unmodifiable collections.
+     */
+    SpeciesData(
+            int version,
+            @Nonnull String id,
+            @Nonnull String displayName,
+            @Nullable String displayNameKey,
+            @Nonnull String modelBaseName,
+            @Nonnull List<String> variants,
+            @Nonnull SpeciesVariantSlot[] variantsV2,
+            @Nonnull String description,
+            @Nullable String descriptionKey,
+            int healthModifier,
+            int staminaModifier,
+            int manaModifier,
+            boolean enabled,
+            boolean usePlayerModel,
+            boolean enableAttachmentDiscovery,
+            @Nonnull Map<String, Map<String, AttachmentOption>> manualAttachments,
+            @Nonnull Map<String, Float> eyeHeightModifiers,
+            @Nonnull Map<String, Float> hitboxHeightModifiers,
+            @Nonnull List<String> starterItems,
+            @Nonnull Map<String, Float> damageResistances,
+            float modelScale,
+            float sleepingRaiseHeight,
+            @Nonnull List<SpeciesAbilityConfig> abilities,
+            @Nonnull List<String> selectCommands,
+            @Nonnull List<String> deselectCommands,
+            @Nonnull List<SpeciesStatModifier> statModifiers
     ) {
         this.version = version;
         this.id = id;
         this.displayName = displayName;
         this.displayNameKey = displayNameKey;
         this.modelBaseName = modelBaseName;
-        this.variants = variants != null ? new ArrayList<>(variants) : new ArrayList<>();
-        this.variantsV2 = variantsV2 != null ? new ArrayList<>(variantsV2) : new ArrayList<>();
+        this.variants = variants;
+        this.variantsV2 = List.of(variantsV2);
         this.description = description;
         this.descriptionKey = descriptionKey;
         this.healthModifier = healthModifier;
@@ -125,20 +216,111 @@ public class SpeciesData {
         this.enabled = enabled;
         this.usePlayerModel = usePlayerModel;
         this.enableAttachmentDiscovery = enableAttachmentDiscovery;
-        // Deep copy manual attachments
-        this.manualAttachments = new HashMap<>();
-        for (Map.Entry<String, Map<String, AttachmentOption>> entry : manualAttachments.entrySet()) {
-            this.manualAttachments.put(entry.getKey(), new HashMap<>(entry.getValue()));
-        }
-        this.eyeHeightModifiers = new HashMap<>(eyeHeightModifiers);
-        this.hitboxHeightModifiers = new HashMap<>(hitboxHeightModifiers);
-        this.starterItems = new ArrayList<>(starterItems);
-        this.damageResistances = new HashMap<>(damageResistances);
+        this.manualAttachments = manualAttachments;
+        this.eyeHeightModifiers = eyeHeightModifiers;
+        this.hitboxHeightModifiers = hitboxHeightModifiers;
+        this.starterItems = starterItems;
+        this.damageResistances = damageResistances;
         this.modelScale = modelScale;
         this.sleepingRaiseHeight = sleepingRaiseHeight;
-        this.abilities = new ArrayList<>(abilities);
-        this.selectCommands = new ArrayList<>(selectCommands);
-        this.deselectCommands = new ArrayList<>(deselectCommands);
+        this.abilities = abilities;
+        this.selectCommands = selectCommands;
+        this.deselectCommands = deselectCommands;
+        this.statModifiers = statModifiers;
+        this.variantViews = new VariantView[getVariantCount()];
+    }
+
+    @Nonnull
+    private static <T> List<T> copyList(@Nonnull List<T> list) {
+        return Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    @Nonnull
+    private static <K, V> Map<K, V> copyMap(@Nonnull Map<K, V> map) {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(map));
+    }
+
+    @Nonnull
+    private static Map<String, Map<String, AttachmentOption>> copyAttachments(@Nonnull Map<String, Map<String, AttachmentOption>> attachments) {
+        Map<String, Map<String, AttachmentOption>> copy = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, AttachmentOption>> entry : attachments.entrySet()) {
+            copy.put(entry.getKey(), copyMap(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    @Nonnull
+    private static SpeciesVariantSlot[] toSlots(@Nullable List<SpeciesVariantData> variantsV2) {
+        if (variantsV2 == null) {
+            return new SpeciesVariantSlot[0];
+        }
+        SpeciesVariantSlot[] slots = new SpeciesVariantSlot[variantsV2.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new SpeciesVariantSlot(variantsV2.get(i));
+        }
+        return slots;
+    }
+
+    // Unmodifiable internal collections, shared with species that extend this one (see SpeciesJsonCodec)
+
+    @Nonnull
+    List<String> sharedVariants() {
+        return variants;
+    }
+
+    @Nonnull
+    SpeciesVariantSlot[] sharedVariantSlots() {
+        return variantsV2.toArray(new SpeciesVariantSlot[0]);
+    }
+
+    @Nullable
+    SpeciesVariantSlot getVariantSlot(int variantIndex) {
+        return variantIndex >= 0 && variantIndex < variantsV2.size() ? variantsV2.get(variantIndex) : null;
+    }
+
+    @Nonnull
+    Map<String, Map<String, AttachmentOption>> sharedManualAttachments() {
+        return manualAttachments;
+    }
+
+    @Nonnull
+    Map<String, Float> sharedEyeHeightModifiers() {
+        return eyeHeightModifiers;
+    }
+
+    @Nonnull
+    Map<String, Float> sharedHitboxHeightModifiers() {
+        return hitboxHeightModifiers;
+    }
+
+    @Nonnull
+    List<String> sharedStarterItems() {
+        return starterItems;
+    }
+
+    @Nonnull
+    Map<String, Float> sharedDamageResistances() {
+        return damageResistances;
+    }
+
+    @Nonnull
+    List<SpeciesAbilityConfig> sharedAbilities() {
+        return abilities;
+    }
+
+    @Nonnull
+    List<SpeciesStatModifier> sharedStatModifiers() {
+        return statModifiers;
+    }
+
+    @Nonnull
+    List<String> sharedSelectCommands() {
+        return selectCommands;
+    }
+
+    @Nonnull
+    List<String> sharedDeselectCommands() {
+        return deselectCommands;
     }
 
     @Nonnull
@@ -188,6 +370,15 @@ public class SpeciesData {
         return manaModifier;
     }
 
+    /**
+     * Stat modifiers declared in the JSON {@code statModifiers} array (the health/stamina/mana shorthands are
+     * not included).
+     */
+    @Nonnull
+    public List<SpeciesStatModifier> getStatModifiers() {
+        return statModifiers;
+    }
+
     /**
      * Returns whether this species is enabled and should appear in the selection list.
      * @return true if enabled, false if disabled
@@ -218,9 +409,9 @@ public class SpeciesData {
      */
     @Nonnull
     public Map<String, Map<String, AttachmentOption>> getManualAttachments() {
-        Map<String, Map<String, AttachmentOption>> result = new HashMap<>();
+        Map<String, Map<String, AttachmentOption>> result = new LinkedHashMap<>();
         for (Map.Entry<String, Map<String, AttachmentOption>> entry : manualAttachments.entrySet()) {
-            result.put(entry.getKey(), new HashMap<>(entry.getValue()));
+            result.put(entry.getKey(), new LinkedHashMap<>(entry.getValue()));
         }
         return result;
     }
@@ -258,13 +449,7 @@ public class SpeciesData {
      * For v1: returns the species modelScale.
      */
     public float getModelScale(int variantIndex) {
-        if (version == 2) {
-            SpeciesVariantData v = getVariantData(variantIndex);
-            if (v != null && v.getScale() != null) {
-                return v.getScale();
-            }
-        }
-        return modelScale;
+        return getVariantView(variantIndex).getScale();
     }
 
     /**
@@ -304,13 +489,7 @@ public class SpeciesData {
      * For v1: returns the species sleepingRaiseHeight.
      */
     public float getSleepingRaiseHeight(int variantIndex) {
-        if (version == 2) {
-            SpeciesVariantData v = getVariantData(variantIndex);
-            if (v != null && v.getSleepingRaiseHeight() != null) {
-                return v.getSleepingRaiseHeight();
-            }
-        }
-        return sleepingRaiseHeight;
+        return getVariantView(variantIndex).getSleepingRaiseHeight();
     }
 
     @Nonnull
@@ -331,6 +510,60 @@ public class SpeciesData {
         return damageResistances.getOrDefault(damageType, 1.0f);
     }
 
+    /**
+     * Gets the resistance multiplier for a DamageCause asset index from the compiled table.
+     * Returns 1.0 for causes without a resistance, and NaN if the table has not been compiled yet.
+     */
+    public float getDamageResistance(int damageCauseIndex) {
+        float[] table = damageResistanceTable;
+        if (table == null) {
+            return Float.NaN;
+        }
+        return damageCauseIndex >= 0 && damageCauseIndex < table.length ? table[damageCauseIndex] : 1.0f;
+    }
+
+    /**
+     * Rebuilds the DamageCause index table from {@link #getDamageResistances()}.
+     * Call again whenever DamageCause indices may have changed (asset reload).
+     * @param indexOf DamageCause id to asset index; negative for unknown ids, which are skipped
+     */
+    public void compileDamageResistances(@Nonnull ToIntFunction<String> indexOf) {
+        int[] indices = new int[damageResistances.size()];
+        float[] values = new float[indices.length];
+        int count = 0;
+        int length = 0;
+        for (Map.Entry<String, Float> entry : damageResistances.entrySet()) {
+            int index = indexOf.applyAsInt(entry.getKey());
+            if (index < 0) {
+                continue;
+            }
+            indices[count] = index;
+            values[count] = entry.getValue();
+            count++;
+            length = Math.max(length, index + 1);
+        }
+        float[] table = new float[length];
+        Arrays.fill(table, 1.0f);
+        for (int i = 0; i < count; i++) {
+            table[indices[i]] = values[i];
+        }
+        damageResistanceTable = table;
+    }
+
+    /**
+     * The species compiled for applying to players (stats, abilities, variant views, starter items).
+     */
+    @Nonnull
+    public ApplyPlan getApplyPlan() {
+        ApplyPlan plan = applyPlan;
+        if (plan == null) {
+            // Racing threads compile equal plans; the fields are immutable apart from the stat indices
+            plan = ApplyPlan.compile(this);
+            applyPlan = plan;
+        }
+        return plan;
+    }
+
     /**
      * Gets the model name for a specific variant index.
      * For v1: returns the variant model asset ID.
@@ -339,14 +572,34 @@ public class SpeciesData {
      */
     @Nonnull
     public String getModelName(int variantIndex) {
-        if (version == 2) {
-            SpeciesVariantData v = getVariantData(variantIndex);
-            return v != null ? v.getParentModel() : modelBaseName;
+        return getVariantView(variantIndex).getModelAssetId();
+    }
+
+    /**
+     * Gets the resolved view of a variant (model asset id, scale, geometry, sleeping raise, attachment slots).
+     * Views are immutable and built once per index; an invalid index gets a shared view of the base model
+     * whose {@link VariantView#getVariantIndex()} is -1.
+     */
+    @Nonnull
+    public VariantView getVariantView(int variantIndex) {
+        if (variantIndex < 0 || variantIndex >= variantViews.length) {
+            VariantView fallback = fallbackView;
+            if (fallback == null) {
+                // Not built from the requested index, so it describes every out-of-range index the same way
+                fallback = VariantView.ofV1(this, -1, modelBaseName);
+                fallbackView = fallback;
+            }
+            return fallback;
         }
-        if (variants.isEmpty() || variantIndex < 0 || variantIndex >= variants.size()) {
-            return modelBaseName;
+        VariantView view = variantViews[variantIndex];
+        if (view == null) {
+            // Racing threads build equal views; all fields are final, so publishing without a lock is safe
+            view = version == 2
+                    ? VariantView.ofV2(this, variantIndex, variantsV2.get(variantIndex).get())
+                    : VariantView.ofV1(this, variantIndex, variants.get(variantIndex));
+            variantViews[variantIndex] = view;
         }
-        return variants.get(variantIndex);
+        return view;
     }
 
     /**
@@ -365,13 +618,14 @@ public class SpeciesData {
 
     /**
      * Gets variant data for v2 species.
+     * The variant is built from its JSON on the first call for that index and reused afterwards.
      */
     @Nullable
     public SpeciesVariantData getVariantData(int variantIndex) {
         if (variantsV2.isEmpty() || variantIndex < 0 || variantIndex >= variantsV2.size()) {
             return null;
         }
-        return variantsV2.get(variantIndex);
+        return variantsV2.get(variantIndex).get();
     }
 
     /**
@@ -387,19 +641,8 @@ public class SpeciesData {
      */
     @Nonnull
     public Map<String, AttachmentOption> getAttachmentOptions(int variantIndex, @Nonnull String slot) {
-        SpeciesVariantData v = getVariantData(variantIndex);
-        if (v == null) return Collections.emptyMap();
-        SpeciesVariantData.AttachmentSlotDef slotDef = v.getAttachments().get(slot);
-        if (slotDef == null) return Collections.emptyMap();
-        Map<String, AttachmentOption> result = new LinkedHashMap<>();
-        int i = 0;
-        for (AttachmentOption opt : slotDef.getOptions()) {
-            String key = opt.getDisplayNameOrDefault(null);
-            if (key == null || key.isEmpty()) key = "option_" + i;
-            result.put(key, opt);
-            i++;
-        }
-        return result;
+        Map<String, AttachmentOption> options = getVariantView(variantIndex).getAttachmentOptions().get(slot);
+        return options != null ? options : Collections.emptyMap();
     }
 
     /**
@@ -407,18 +650,13 @@ public class SpeciesData {
      */
     @Nonnull
     public List<String> getAttachmentSlotNames(int variantIndex) {
-        SpeciesVariantData v = getVariantData(variantIndex);
-        if (v == null) return Collections.emptyList();
-        return new ArrayList<>(v.getAttachments().keySet());
+        return new ArrayList<>(getVariantView(variantIndex).getAttachmentOptions().keySet());
     }
 
     /**
      * Checks if an attachment slot allows "None" for v2.
      */
     public boolean attachmentAllowsNone(int variantIndex, @Nonnull String slot) {
-        SpeciesVariantData v = getVariantData(variantIndex);
-        if (v == null) return false;
-        SpeciesVariantData.AttachmentSlotDef slotDef = v.getAttachments().get(slot);
-        return slotDef != null && slotDef.isAllowsNone();
+        return getVariantView(variantIndex).attachmentAllowsNone(slot);
     }
 }
@@ -0,0 +1,154 @@
+package com.hexvane.orbisorigins.species;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Species file index for JAR/ZIP-backed asset packs.
+ * The archive's central directory is read once per JAR and only entries that look like {@code .../Species/*.json}
+ * are kept, so discovery costs the number of species files rather than the number of entries in the pack.
+ * The index is rebuilt when the JAR's size or modification time changes (e.g. a mod updated between reloads).
+ */
+final class SpeciesJarIndex {
+    private static final Logger LOGGER = Logger.getLogger(SpeciesJarIndex.class.getName());
+    private static final String JAR_SCHEME = "jar";
+    private static final String SPECIES_DIR_SEGMENT = "Species/";
+    private static final String JSON_SUFFIX = ".json";
+
+    private static final Map<Path, Index> INDEXES = new ConcurrentHashMap<>();
+
+    private static final class Index {
+        final long size;
+        final long lastModified;
+        /** Entry names without leading slash, sorted, e.g. {@code Species/kweebec.json}. */
+        final List<String> speciesEntries;
+
+        Index(long size, long lastModified, @Nonnull List<String> speciesEntries) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.speciesEntries = speciesEntries;
+        }
+    }
+
+    private SpeciesJarIndex() {
+    }
+
+    /**
+     * True if {@code path} lives inside a JAR/ZIP file system.
+     */
+    static boolean isJarBacked(@Nonnull Path path) {
+        return JAR_SCHEME.equalsIgnoreCase(path.getFileSystem().provider().getScheme());
+    }
+
+    /**
+     * Lists the {@code *.json} files directly inside {@code speciesDir} using the cached index of its JAR.
+     * @return sorted paths in {@code speciesDir}'s file system, or null if the JAR could not be indexed
+     */
+    @Nullable
+    static List<Path> listSpeciesJson(@Nonnull Path speciesDir) {
+        Path jarPath = resolveJarFile(speciesDir);
+        if (jarPath == null) {
+            return null;
+        }
+        Index index = getIndex(jarPath);
+        if (index == null) {
+            return null;
+        }
+
+        String dirName = speciesDir.toAbsolutePath().normalize().toString();
+        while (dirName.startsWith("/")) {
+            dirName = dirName.substring(1);
+        }
+        String prefix = dirName.isEmpty() ? "" : dirName + "/";
+
+        List<Path> out = new ArrayList<>();
+        for (String entry : index.speciesEntries) {
+            if (entry.startsWith(prefix) && entry.indexOf('/', prefix.length()) < 0) {
+                out.add(speciesDir.getFileSystem().getPath("/" + entry));
+            }
+        }
+        return out;
+    }
+
+    @Nullable
+    private static Index getIndex(@Nonnull Path jarPath) {
+        long size;
+        long lastModified;
+        try {
+            size = Files.size(jarPath);
+            lastModified = Files.getLastModifiedTime(jarPath).toMillis();
+        } catch (IOException e) {
+            LOGGER.warning("Failed to stat species pack " + jarPath + ": " + e.getMessage());
+            return null;
+        }
+
+        Index cached = INDEXES.get(jarPath);
+        if (cached != null && cached.size == size && cached.lastModified == lastModified) {
+            return cached;
+        }
+
+        List<String> entries = new ArrayList<>();
+        try (ZipFile zip = new ZipFile(jarPath.toFile())) {
+            Enumeration<? extends ZipEntry> it = zip.entries();
+            while (it.hasMoreElements()) {
+                ZipEntry entry = it.nextElement();
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                String name = entry.getName();
+                if (!name.endsWith(JSON_SUFFIX)) {
+                    continue;
+                }
+                while (name.startsWith("/")) {
+                    name = name.substring(1);
+                }
+                int slash = name.lastIndexOf('/');
+                String dir = name.substring(0, slash + 1);
+                if (dir.equals(SPECIES_DIR_SEGMENT) || dir.endsWith("/" + SPECIES_DIR_SEGMENT)) {
+                    entries.add(name);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Failed to index species pack " + jarPath + ": " + e.getMessage());
+            return null;
+        }
+        Collections.sort(entries);
+
+        Index index = new Index(size, lastModified, Collections.unmodifiableList(entries));
+        INDEXES.put(jarPath, index);
+        LOGGER.info("Indexed " + entries.size() + " species file(s) in " + jarPath.getFileName());
+        return index;
+    }
+
+    /**
+     * Location of the JAR on the default file system, from a {@code jar:file:///x.jar!/Species} path.
+     * Nested JARs are not supported.
+     */
+    @Nullable
+    private static Path resolveJarFile(@Nonnull Path pathInJar) {
+        try {
+            URI uri = pathInJar.toUri();
+            String spec = uri.getRawSchemeSpecificPart();
+            int separator = spec.indexOf("!/");
+            String fileUri = separator >= 0 ? spec.substring(0, separator) : spec;
+            Path jar = Path.of(URI.create(fileUri));
+            return Files.isRegularFile(jar) ? jar : null;
+        } catch (Exception e) {
+            LOGGER.warning("Could not resolve JAR for " + pathInJar + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.hexvane.orbisorigins.species;
 
+import com.hexvane.orbisorigins.util.PathInterner;
 import com.hypixel.hytale.math.shape.Box;
 import org.joml.Vector3d;
 import com.nimbusds.jose.shaded.gson.Gson;
 import com.nimbusds.jose.shaded.gson.GsonBuilder;
+import com.nimbusds.jose.shaded.gson.JsonArray;
 import com.nimbusds.jose.shaded.gson.JsonDeserializationContext;
 import com.nimbusds.jose.shaded.gson.JsonDeserializer;
 import com.nimbusds.jose.shaded.gson.JsonElement;
@@ -14,8 +16,11 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -27,14 +32,80 @@ public class SpeciesJsonCodec {
     private static final Gson GSON = new GsonBuilder()
             .registerTypeAdapter(SpeciesJsonData.class, new SpeciesDeserializer())
             .create();
+    private static final Type VARIANT_MAP_TYPE = new TypeToken<Map<String, Object>>(){}.getType();
 
     /**
      * Deserializes a JSON string into a SpeciesData object.
+     * Species that {@code extends} a template must go through {@link #parse} and be resolved against the template.
      */
     @Nonnull
     public static SpeciesData fromJson(@Nonnull String json) throws JsonParseException {
+        ParsedSpecies parsed = parse(json);
+        if (parsed.getExtends() != null) {
+            throw new JsonParseException("Species " + parsed.getId() + " extends " + parsed.getExtends()
+                    + "; templates are only resolved for species loaded from asset packs or the data directory");
+        }
+        return parsed.resolve(null);
+    }
+
+    /**
+     * Parses a species file without building it, so {@code extends} can be resolved once every source is merged.
+     */
+    @Nonnull
+    static ParsedSpecies parse(@Nonnull String json) throws JsonParseException {
         SpeciesJsonData jsonData = GSON.fromJson(json, SpeciesJsonData.class);
-        return jsonData.toSpeciesData();
+        if (jsonData == null) {
+            throw new JsonParseException("Empty species file");
+        }
+        if (jsonData.id == null || jsonData.id.isEmpty()) {
+            throw new JsonParseException("Missing required field: id");
+        }
+        return new ParsedSpecies(jsonData);
+    }
+
+    /**
+     * Builds one v2 variant from the JSON text kept by {@link SpeciesVariantSlot}.
+     * The text was validated when the species was loaded, so this only fails on programming errors.
+     * @param base template variant whose parts are shared for every key the JSON does not set, or null
+     */
+    @Nonnull
+    static SpeciesVariantData parseVariantJson(@Nonnull String json, @Nullable SpeciesVariantData base) {
+        Map<String, Object> variantMap = GSON.fromJson(json, VARIANT_MAP_TYPE);
+        return SpeciesJsonData.parseV2Variant(variantMap, base);
+    }
+
+    /**
+     * A parsed species file that may still need its {@code extends} template.
+     */
+    static final class ParsedSpecies {
+        private final SpeciesJsonData data;
+
+        private ParsedSpecies(@Nonnull SpeciesJsonData data) {
+            this.data = data;
+        }
+
+        @Nonnull
+        String getId() {
+            return data.id;
+        }
+
+        /** Id of the template species, or null if this species does not extend one. */
+        @Nullable
+        String getExtends() {
+            return data.extendsId;
+        }
+
+        /**
+         * Builds the species. Every field the file does not set is taken from {@code template},
+         * sharing the template's lists, maps and variants instead of copying them.
+         */
+        @Nonnull
+        SpeciesData resolve(@Nullable SpeciesData template) throws JsonParseException {
+            if (data.extendsId != null && template == null) {
+                throw new JsonParseException("Species " + data.id + " extends unknown species " + data.extendsId);
+            }
+            return data.toSpeciesData(data.extendsId != null ? template : null);
+        }
     }
 
     /**
@@ -43,13 +114,15 @@ public class SpeciesJsonCodec {
     private static class SpeciesJsonData {
         Integer version; // 1 = legacy, 2 = new format; null/missing = 1
         String id;
+        String extendsId; // "extends": id of the template species, or null
+        Set<String> declared = Collections.emptySet(); // top-level keys present in the file
         String displayName;
         String displayNameKey;
         String description;
         String descriptionKey;
         String modelBaseName;
         String modelNamespace;
-        List<Object> variants; // v1: String or {modelName, namespace}; v2: variant objects
+        JsonArray variantsJson; // v1: String or {modelName, namespace}; v2: variant objects, kept as JSON until first use
         int healthModifier;
         int staminaModifier;
         int manaModifier;
@@ -64,49 +137,114 @@ public class SpeciesJsonCodec {
         Float modelScale;
         Float sleepingRaiseHeight;
         List<AbilityJsonData> abilities;
+        List<StatModifierJsonData> statModifiers;
         List<String> selectCommands;
         List<String> deselectCommands;
 
+        /**
+         * True if {@code key} is missing from the file and must come from the template.
+         */
+        private boolean inherits(@Nonnull String key, @Nullable SpeciesData template) {
+            return template != null && !declared.contains(key);
+        }
+
         @Nonnull
-        SpeciesData toSpeciesData() {
-            int ver = (version != null && version == 2) ? 2 : 1;
+        SpeciesData toSpeciesData(@Nullable SpeciesData template) {
+            int ver = inherits("version", template)
+                    ? template.getVersion()
+                    : (version != null && version == 2) ? 2 : 1;
 
             // Validate required fields
             if (id == null || id.isEmpty()) {
                 throw new JsonParseException("Missing required field: id");
             }
-            if (displayName == null || displayName.isEmpty()) {
+            if (!inherits("displayName", template) && (displayName == null || displayName.isEmpty())) {
                 throw new JsonParseException("Missing required field: displayName");
             }
-            if (description == null) {
+            if (!inherits("description", template) && description == null) {
                 throw new JsonParseException("Missing required field: description");
             }
-            if (variants == null) {
+            if (inherits("variants", template)) {
+                if (template.getVersion() != ver) {
+                    throw new JsonParseException("Species " + id + " changes version from its template and must declare its own variants");
+                }
+            } else if (variantsJson == null) {
                 throw new JsonParseException("Missing required field: variants");
             }
 
             if (ver == 2) {
-                return toSpeciesDataV2(ver);
+                return toSpeciesDataV2(ver, template);
             } else {
-                return toSpeciesDataV1(ver);
+                return toSpeciesDataV1(ver, template);
             }
         }
 
         @Nonnull
-        private SpeciesData toSpeciesDataV1(int ver) {
-            if (modelBaseName == null) {
+        private SpeciesData toSpeciesDataV1(int ver, @Nullable SpeciesData template) {
+            String baseName = inherits("modelBaseName", template) ? template.getModelBaseName() : modelBaseName;
+            if (baseName == null) {
                 throw new JsonParseException("Missing required field: modelBaseName");
             }
-            if (variants.isEmpty() && (modelBaseName == null || modelBaseName.isEmpty())) {
+            boolean inheritsVariants = inherits("variants", template);
+            List<String> variantList = inheritsVariants ? template.sharedVariants() : parseV1Variants();
+            if (variantList.isEmpty() && baseName.isEmpty()) {
                 // Valid - orbian / usePlayerModel
-            } else if (variants.isEmpty()) {
+            } else if (variantList.isEmpty()) {
                 throw new JsonParseException("Variants array cannot be empty unless modelBaseName is also empty or usePlayerModel is true");
             }
 
+            boolean isAttachmentDiscoveryEnabled = inherits("enableAttachmentDiscovery", template)
+                    ? template.isAttachmentDiscoveryEnabled()
+                    : enableAttachmentDiscovery != null ? enableAttachmentDiscovery : false;
+            Map<String, Map<String, AttachmentOption>> manualAttachments = inherits("attachments", template)
+                    ? template.sharedManualAttachments()
+                    : parseManualAttachments(attachments);
+            Map<String, Float> eyeHeightMods = inherits("eyeHeightModifiers", template)
+                    ? template.sharedEyeHeightModifiers()
+                    : unmodifiableMapOrEmpty(eyeHeightModifiers);
+            Map<String, Float> hitboxHeightMods = inherits("hitboxHeightModifiers", template)
+                    ? template.sharedHitboxHeightModifiers()
+                    : unmodifiableMapOrEmpty(hitboxHeightModifiers);
+            boolean usePlayerModelFlag = explicitUsePlayerModel(template, inheritsVariants)
+                    || (variantList.isEmpty() && baseName.isEmpty());
+
+            return new SpeciesData(
+                    ver,
+                    id,
+                    resolveDisplayName(template),
+                    resolveDisplayNameKey(template),
+                    baseName,
+                    variantList,
+                    new SpeciesVariantSlot[0],
+                    resolveDescription(template),
+                    resolveDescriptionKey(template),
+                    inherits("healthModifier", template) ? template.getHealthModifier() : healthModifier,
+                    inherits("staminaModifier", template) ? template.getStaminaModifier() : staminaModifier,
+                    inherits("manaModifier", template) ? template.getManaModifier() : manaModifier,
+                    enabled != null ? enabled : true,
+                    usePlayerModelFlag,
+                    isAttachmentDiscoveryEnabled,
+                    manualAttachments,
+                    eyeHeightMods,
+                    hitboxHeightMods,
+                    resolveStarterItems(template),
+                    resolveDamageResistances(template),
+                    resolveModelScale(template),
+                    resolveSleepingRaiseHeight(template),
+                    resolveAbilities(template),
+                    resolveSelectCommands(template),
+                    resolveDeselectCommands(template),
+                    resolveStatModifiers(template)
+            );
+        }
+
+        @Nonnull
+        private List<String> parseV1Variants() {
             List<String> variantList = new ArrayList<>();
+            List<?> variants = GSON.fromJson(variantsJson, List.class);
             for (Object variant : variants) {
                 if (variant instanceof String) {
-                    variantList.add((String) variant);
+                    variantList.add(PathInterner.intern((String) variant));
                 } else if (variant instanceof Map) {
                     @SuppressWarnings("unchecked")
                     Map<String, Object> variantMap = (Map<String, Object>) variant;
@@ -114,119 +252,194 @@ public class SpeciesJsonCodec {
                     if (modelNameObj == null) {
                         throw new JsonParseException("Variant object missing 'modelName' field");
                     }
-                    variantList.add(modelNameObj.toString());
+                    variantList.add(PathInterner.intern(modelNameObj.toString()));
                 } else {
                     throw new JsonParseException("Invalid variant format: expected String or Object with 'modelName'");
                 }
             }
-
-            validateDamageResistances();
-            List<String> items = starterItems != null ? starterItems : new ArrayList<>();
-            Map<String, Float> resistances = damageResistances != null ? damageResistances : new HashMap<>();
-            Map<String, Float> eyeHeightMods = eyeHeightModifiers != null ? eyeHeightModifiers : new HashMap<>();
-            Map<String, Float> hitboxHeightMods = hitboxHeightModifiers != null ? hitboxHeightModifiers : new HashMap<>();
-            boolean isEnabled = enabled != null ? enabled : true;
-            boolean usePlayerModelFlag = Boolean.TRUE.equals(usePlayerModel)
-                    || (variantList.isEmpty() && (modelBaseName == null || modelBaseName.isEmpty()));
-            boolean isAttachmentDiscoveryEnabled = enableAttachmentDiscovery != null ? enableAttachmentDiscovery : false;
-            Map<String, Map<String, AttachmentOption>> manualAttachments = parseManualAttachments(attachments);
-            float scale = resolveAndValidateModelScale(modelScale, "modelScale");
-            float sleepingRaise = (sleepingRaiseHeight != null) ? sleepingRaiseHeight : 0f;
-            List<SpeciesAbilityConfig> abilityConfigs = convertAbilities();
-            List<String> selectCmds = selectCommands != null ? selectCommands : new ArrayList<>();
-            List<String> deselectCmds = deselectCommands != null ? deselectCommands : new ArrayList<>();
-
-            return new SpeciesData(
-                    ver,
-                    id,
-                    displayName,
-                    displayNameKey,
-                    modelBaseName,
-                    variantList,
-                    null,
-                    description,
-                    descriptionKey,
-                    healthModifier,
-                    staminaModifier,
-                    manaModifier,
-                    isEnabled,
-                    usePlayerModelFlag,
-                    isAttachmentDiscoveryEnabled,
-                    manualAttachments,
-                    eyeHeightMods,
-                    hitboxHeightMods,
-                    items,
-                    resistances,
-                    scale,
-                    sleepingRaise,
-                    abilityConfigs,
-                    selectCmds,
-                    deselectCmds
-            );
+            return Collections.unmodifiableList(variantList);
         }
 
         @Nonnull
-        private SpeciesData toSpeciesDataV2(int ver) {
-            List<SpeciesVariantData> variantDataList = new ArrayList<>();
-            String baseModel = modelBaseName != null ? modelBaseName : "";
-
-            for (Object variant : variants) {
-                if (!(variant instanceof Map)) {
-                    throw new JsonParseException("Version 2 variants must be objects");
-                }
-                @SuppressWarnings("unchecked")
-                Map<String, Object> variantMap = (Map<String, Object>) variant;
-                SpeciesVariantData v = parseV2Variant(variantMap);
-                variantDataList.add(v);
-                if (baseModel.isEmpty() && !variantDataList.isEmpty()) {
-                    baseModel = v.getParentModel();
+        private SpeciesData toSpeciesDataV2(int ver, @Nullable SpeciesData template) {
+            boolean inheritsVariants = inherits("variants", template);
+            String baseModel = inheritsVariants && inherits("modelBaseName", template)
+                    ? template.getModelBaseName()
+                    : modelBaseName != null ? modelBaseName : "";
+            SpeciesVariantSlot[] variantSlots;
+            if (inheritsVariants) {
+                variantSlots = template.sharedVariantSlots();
+            } else {
+                JsonArray variantArray = variantsJson != null ? variantsJson : new JsonArray();
+                variantSlots = new SpeciesVariantSlot[variantArray.size()];
+                for (int i = 0; i < variantSlots.length; i++) {
+                    JsonElement variant = variantArray.get(i);
+                    if (!variant.isJsonObject()) {
+                        throw new JsonParseException("Version 2 variants must be objects");
+                    }
+                    JsonObject variantObject = variant.getAsJsonObject();
+                    SpeciesVariantSlot base = resolveVariantTemplate(variantObject, template);
+                    String parentModel = validateV2Variant(variantObject, base);
+                    variantSlots[i] = new SpeciesVariantSlot(parentModel, variantObject.toString(), base);
+                    if (baseModel.isEmpty()) {
+                        baseModel = parentModel;
+                    }
                 }
             }
 
-            boolean usePlayerModelFlag = Boolean.TRUE.equals(usePlayerModel);
-            if (variantDataList.isEmpty() && !baseModel.isEmpty() && !usePlayerModelFlag) {
+            boolean usePlayerModelFlag = explicitUsePlayerModel(template, inheritsVariants);
+            if (variantSlots.length == 0 && !baseModel.isEmpty() && !usePlayerModelFlag) {
                 throw new JsonParseException("Version 2: variants array cannot be empty unless usePlayerModel is true");
             }
 
-            validateDamageResistances();
-            List<String> items = starterItems != null ? starterItems : new ArrayList<>();
-            Map<String, Float> resistances = damageResistances != null ? damageResistances : new HashMap<>();
-            boolean isEnabled = enabled != null ? enabled : true;
-            float scale = resolveAndValidateModelScale(modelScale, "modelScale");
-            float sleepingRaise = (sleepingRaiseHeight != null) ? sleepingRaiseHeight : 0f;
-            List<SpeciesAbilityConfig> abilityConfigs = convertAbilities();
-            List<String> selectCmds = selectCommands != null ? selectCommands : new ArrayList<>();
-            List<String> deselectCmds = deselectCommands != null ? deselectCommands : new ArrayList<>();
-
             return new SpeciesData(
                     ver,
                     id,
-                    displayName,
-                    displayNameKey,
+                    resolveDisplayName(template),
+                    resolveDisplayNameKey(template),
                     baseModel,
                     Collections.emptyList(),
-                    variantDataList,
-                    description,
-                    descriptionKey,
-                    healthModifier,
-                    staminaModifier,
-                    manaModifier,
-                    isEnabled,
+                    variantSlots,
+                    resolveDescription(template),
+                    resolveDescriptionKey(template),
+                    inherits("healthModifier", template) ? template.getHealthModifier() : healthModifier,
+                    inherits("staminaModifier", template) ? template.getStaminaModifier() : staminaModifier,
+                    inherits("manaModifier", template) ? template.getManaModifier() : manaModifier,
+                    enabled != null ? enabled : true,
                     usePlayerModelFlag,
                     false,
                     Collections.emptyMap(),
                     Collections.emptyMap(),
                     Collections.emptyMap(),
-                    items,
-                    resistances,
-                    scale,
-                    sleepingRaise,
-                    abilityConfigs,
-                    selectCmds,
-                    deselectCmds
+                    resolveStarterItems(template),
+                    resolveDamageResistances(template),
+                    resolveModelScale(template),
+                    resolveSleepingRaiseHeight(template),
+                    resolveAbilities(template),
+                    resolveSelectCommands(template),
+                    resolveDeselectCommands(template),
+                    resolveStatModifiers(template)
             );
         }
 
+        /**
+         * Template variant named by a v2 variant's {@code "extends": <index>} (index into the template species' variants).
+         */
+        @Nullable
+        private SpeciesVariantSlot resolveVariantTemplate(@Nonnull JsonObject variantObject, @Nullable SpeciesData template) {
+            JsonElement ext = variantObject.get("extends");
+            if (ext == null || ext.isJsonNull()) {
+                return null;
+            }
+            if (template == null || !template.isVersion2()) {
+                throw new JsonParseException("Variant 'extends' needs the species to extend a version 2 species");
+            }
+            int index;
+            try {
+                index = ext.getAsInt();
+            } catch (RuntimeException e) {
+                throw new JsonParseException("Variant 'extends' must be a variant index of " + template.getId());
+            }
+            SpeciesVariantSlot base = template.getVariantSlot(index);
+            if (base == null) {
+                throw new JsonParseException("Variant 'extends' index " + index + " is out of range for " + template.getId());
+            }
+            return base;
+        }
+
+        /**
+         * {@code usePlayerModel} from the file, or from the template when the variants are inherited too.
+         */
+        private boolean explicitUsePlayerModel(@Nullable SpeciesData template, boolean inheritsVariants) {
+            if (inherits("usePlayerModel", template)) {
+                return inheritsVariants && template.usesPlayerModel();
+            }
+            return Boolean.TRUE.equals(usePlayerModel);
+        }
+
+        @Nonnull
+        private String resolveDisplayName(@Nullable SpeciesData template) {
+            return inherits("displayName", template) ? template.getDisplayName() : displayName;
+        }
+
+        /** A template's language key is only inherited together with its display name. */
+        @Nullable
+        private String resolveDisplayNameKey(@Nullable SpeciesData template) {
+            if (inherits("displayNameKey", template)) {
+                return inherits("displayName", template) ? template.getDisplayNameKey() : null;
+            }
+            return displayNameKey;
+        }
+
+        @Nonnull
+        private String resolveDescription(@Nullable SpeciesData template) {
+            return inherits("description", template) ? template.getDescription() : description;
+        }
+
+        /** A template's language key is only inherited together with its description. */
+        @Nullable
+        private String resolveDescriptionKey(@Nullable SpeciesData template) {
+            if (inherits("descriptionKey", template)) {
+                return inherits("description", template) ? template.getDescriptionKey() : null;
+            }
+            return descriptionKey;
+        }
+
+        @Nonnull
+        private List<String> resolveStarterItems(@Nullable SpeciesData template) {
+            return inherits("starterItems", template) ? template.sharedStarterItems() : unmodifiableListOrEmpty(starterItems);
+        }
+
+        @Nonnull
+        private Map<String, Float> resolveDamageResistances(@Nullable SpeciesData template) {
+            if (inherits("damageResistances", template)) {
+                return template.sharedDamageResistances();
+            }
+            validateDamageResistances();
+            return unmodifiableMapOrEmpty(damageResistances);
+        }
+
+        private float resolveModelScale(@Nullable SpeciesData template) {
+            return inherits("modelScale", template) ? template.getModelScale() : resolveAndValidateModelScale(modelScale, "modelScale");
+        }
+
+        private float resolveSleepingRaiseHeight(@Nullable SpeciesData template) {
+            if (inherits("sleepingRaiseHeight", template)) {
+                return template.getSleepingRaiseHeight();
+            }
+            return (sleepingRaiseHeight != null) ? sleepingRaiseHeight : 0f;
+        }
+
+        @Nonnull
+        private List<SpeciesAbilityConfig> resolveAbilities(@Nullable SpeciesData template) {
+            return inherits("abilities", template) ? template.sharedAbilities() : Collections.unmodifiableList(convertAbilities());
+        }
+
+        @Nonnull
+        private List<SpeciesStatModifier> resolveStatModifiers(@Nullable SpeciesData template) {
+            return inherits("statModifiers", template) ? template.sharedStatModifiers() : Collections.unmodifiableList(convertStatModifiers());
+        }
+
+        @Nonnull
+        private List<String> resolveSelectCommands(@Nullable SpeciesData template) {
+            return inherits("selectCommands", template) ? template.sharedSelectCommands() : unmodifiableListOrEmpty(selectCommands);
+        }
+
+        @Nonnull
+        private List<String> resolveDeselectCommands(@Nullable SpeciesData template) {
+            return inherits("deselectCommands", template) ? template.sharedDeselectCommands() : unmodifiableListOrEmpty(deselectCommands);
+        }
+
+        @Nonnull
+        private static <T> List<T> unmodifiableListOrEmpty(@Nullable List<T> list) {
+            return list != null ? Collections.unmodifiableList(list) : Collections.emptyList();
+        }
+
+        @Nonnull
+        private static <K, V> Map<K, V> unmodifiableMapOrEmpty(@Nullable Map<K, V> map) {
+            return map != null ? Collections.unmodifiableMap(map) : Collections.emptyMap();
+        }
+
         @Nonnull
         private List<SpeciesAbilityConfig> convertAbilities() {
             List<SpeciesAbilityConfig> result = new ArrayList<>();
@@ -250,6 +463,30 @@ public class SpeciesJsonCodec {
             return result;
         }
 
+        @Nonnull
+        private List<SpeciesStatModifier> convertStatModifiers() {
+            List<SpeciesStatModifier> result = new ArrayList<>();
+            if (statModifiers == null) {
+                return result;
+            }
+            for (StatModifierJsonData modifier : statModifiers) {
+                if (modifier == null || modifier.stat == null || modifier.stat.isEmpty()) {
+                    throw new JsonParseException("statModifiers entries need a stat");
+                }
+                if (modifier.amount == null) {
+                    throw new JsonParseException("statModifiers entry for " + modifier.stat + " needs an amount");
+                }
+                SpeciesStatModifier.Type type = modifier.type != null
+                        ? SpeciesStatModifier.Type.fromName(modifier.type)
+                        : SpeciesStatModifier.Type.ADDITIVE;
+                if (type == null) {
+                    throw new JsonParseException("statModifiers type must be Additive or Multiplicative (got " + modifier.type + ")");
+                }
+                result.add(new SpeciesStatModifier(modifier.stat, modifier.amount, type));
+            }
+            return result;
+        }
+
         private static float resolveAndValidateModelScale(@Nullable Float value, @Nonnull String fieldName) {
             float scale = (value != null) ? value : 1.0f;
             if (scale <= 0.0f) {
@@ -258,33 +495,78 @@ public class SpeciesJsonCodec {
             return scale;
         }
 
+        /**
+         * Checks the parts of a v2 variant that would make it unusable, without building it.
+         * Everything else is parsed leniently when the variant is first used.
+         * @param base template variant supplying ParentModel/Model when the variant omits them, or null
+         * @return the variant's ParentModel
+         */
         @Nonnull
-        private SpeciesVariantData parseV2Variant(@Nonnull Map<String, Object> variantMap) {
+        private static String validateV2Variant(@Nonnull JsonObject variantObject, @Nullable SpeciesVariantSlot base) {
+            JsonElement parentElement = variantObject.get("ParentModel");
+            JsonElement modelElement = variantObject.get("Model");
+            boolean hasParent = parentElement != null && !parentElement.isJsonNull();
+            boolean hasModel = modelElement != null && !modelElement.isJsonNull();
+            if (base == null && (!hasParent || !hasModel)) {
+                throw new JsonParseException("Version 2 variant must have ParentModel and Model");
+            }
+            // Checked before the inherited-ParentModel return: variants based on a template variant need it too
+            JsonElement scaleElement = variantObject.get("Scale");
+            if (scaleElement != null && scaleElement.isJsonPrimitive()) {
+                try {
+                    float variantScale = Float.parseFloat(scaleElement.getAsString());
+                    if (variantScale <= 0.0f) {
+                        throw new JsonParseException("Variant Scale must be greater than 0 (got " + variantScale + ")");
+                    }
+                } catch (NumberFormatException ignored) {
+                    // Non-numeric Scale is ignored, as in parseV2Variant
+                }
+            }
+            if (!hasParent) {
+                return base.getParentModel();
+            }
+            return PathInterner.intern(parentElement.isJsonPrimitive() ? parentElement.getAsString() : parentElement.toString());
+        }
+
+        /**
+         * Builds a v2 variant. When {@code base} is given, every key missing from {@code variantMap}
+         * reuses the base variant's value (same list, map and hitbox instances).
+         */
+        @Nonnull
+        static SpeciesVariantData parseV2Variant(@Nonnull Map<String, Object> variantMap, @Nullable SpeciesVariantData base) {
             Object parentObj = variantMap.get("ParentModel");
             Object modelObj = variantMap.get("Model");
-            if (parentObj == null || modelObj == null) {
+            if (base == null && (parentObj == null || modelObj == null)) {
                 throw new JsonParseException("Version 2 variant must have ParentModel and Model");
             }
-            String parentModel = parentObj.toString();
-            String model = modelObj.toString();
-            String variantName = getString(variantMap, "VariantName", "Unknown");
-
-            List<String> textures = parseStringList(variantMap.get("Textures"));
-            Float eyeHeight = getFloat(variantMap, "EyeHeight");
-            Float crouchOffset = getFloat(variantMap, "CrouchOffset");
-            Box hitBox = parseHitBox(variantMap.get("HitBox"));
-            Float variantScale = getFloat(variantMap, "Scale");
+            String parentModel = parentObj != null ? PathInterner.intern(parentObj.toString()) : base.getParentModel();
+            String model = modelObj != null ? PathInterner.intern(modelObj.toString()) : base.getModel();
+            String variantName = getString(variantMap, "VariantName", base != null ? base.getVariantName() : "Unknown");
+
+            List<String> textures = inheritsKey(variantMap, "Textures", base)
+                    ? base.getTextures()
+                    : Collections.unmodifiableList(parseStringList(variantMap.get("Textures")));
+            Float eyeHeight = inheritsKey(variantMap, "EyeHeight", base) ? base.getEyeHeight() : getFloat(variantMap, "EyeHeight");
+            Float crouchOffset = inheritsKey(variantMap, "CrouchOffset", base) ? base.getCrouchOffset() : getFloat(variantMap, "CrouchOffset");
+            Box hitBox = inheritsKey(variantMap, "HitBox", base) ? base.getHitBox() : parseHitBox(variantMap.get("HitBox"));
+            Float variantScale = inheritsKey(variantMap, "Scale", base) ? base.getScale() : getFloat(variantMap, "Scale");
             if (variantScale != null && variantScale <= 0.0f) {
                 throw new JsonParseException("Variant Scale must be greater than 0 (got " + variantScale + ")");
             }
-            Float sittingOffset = getFloat(variantMap, "SittingOffset");
-            Float sleepingOffset = getFloat(variantMap, "SleepingOffset");
-            Float variantSleepingRaiseHeight = getFloat(variantMap, "SleepingRaiseHeight");
+            Float sittingOffset = inheritsKey(variantMap, "SittingOffset", base) ? base.getSittingOffset() : getFloat(variantMap, "SittingOffset");
+            Float sleepingOffset = inheritsKey(variantMap, "SleepingOffset", base) ? base.getSleepingOffset() : getFloat(variantMap, "SleepingOffset");
+            Float variantSleepingRaiseHeight = inheritsKey(variantMap, "SleepingRaiseHeight", base)
+                    ? base.getSleepingRaiseHeight()
+                    : getFloat(variantMap, "SleepingRaiseHeight");
 
-            List<SpeciesVariantData.DefaultAttachmentDef> defaultAttachments = parseDefaultAttachments(variantMap.get("defaultAttachments"));
-            Map<String, SpeciesVariantData.AttachmentSlotDef> attachments = parseV2Attachments(variantMap.get("attachments"));
+            List<SpeciesVariantData.DefaultAttachmentDef> defaultAttachments = inheritsKey(variantMap, "defaultAttachments", base)
+                    ? base.getDefaultAttachments()
+                    : Collections.unmodifiableList(parseDefaultAttachments(variantMap.get("defaultAttachments")));
+            Map<String, SpeciesVariantData.AttachmentSlotDef> attachments = inheritsKey(variantMap, "attachments", base)
+                    ? base.getAttachments()
+                    : Collections.unmodifiableMap(parseV2Attachments(variantMap.get("attachments")));
 
-            return new SpeciesVariantData(
+            return SpeciesVariantData.createShared(
                     variantName,
                     parentModel,
                     model,
@@ -301,14 +583,18 @@ public class SpeciesJsonCodec {
             );
         }
 
+        private static boolean inheritsKey(@Nonnull Map<String, Object> map, @Nonnull String key, @Nullable SpeciesVariantData base) {
+            return base != null && !map.containsKey(key);
+        }
+
         @Nullable
-        private String getString(Map<String, Object> map, String key, @Nullable String fallback) {
+        private static String getString(Map<String, Object> map, String key, @Nullable String fallback) {
             Object v = map.get(key);
             return v != null ? v.toString() : fallback;
         }
 
         @Nullable
-        private Float getFloat(Map<String, Object> map, String key) {
+        private static Float getFloat(Map<String, Object> map, String key) {
             Object v = map.get(key);
             if (v == null) return null;
             if (v instanceof Number) return ((Number) v).floatValue();
@@ -320,18 +606,18 @@ public class SpeciesJsonCodec {
         }
 
         @Nonnull
-        private List<String> parseStringList(@Nullable Object obj) {
+        private static List<String> parseStringList(@Nullable Object obj) {
             List<String> result = new ArrayList<>();
             if (obj instanceof List) {
                 for (Object item : (List<?>) obj) {
-                    if (item != null) result.add(item.toString());
+                    if (item != null) result.add(PathInterner.intern(item.toString()));
                 }
             }
             return result;
         }
 
         @Nullable
-        private Box parseHitBox(@Nullable Object obj) {
+        private static Box parseHitBox(@Nullable Object obj) {
             if (obj == null || !(obj instanceof Map)) return null;
             @SuppressWarnings("unchecked")
             Map<String, Object> map = (Map<String, Object>) obj;
@@ -352,7 +638,7 @@ public class SpeciesJsonCodec {
             return new Box(new Vector3d(minX, minY, minZ), new Vector3d(maxX, maxY, maxZ));
         }
 
-        private double getDouble(Map<String, Object> map, String key, double fallback) {
+        private static double getDouble(Map<String, Object> map, String key, double fallback) {
             Object v = map.get(key);
             if (v == null) return fallback;
             if (v instanceof Number) return ((Number) v).doubleValue();
@@ -363,7 +649,7 @@ public class SpeciesJsonCodec {
             }
         }
 
-        private double getDoubleAnyCase(Map<String, Object> map, String key, double fallback) {
+        private static double getDoubleAnyCase(Map<String, Object> map, String key, double fallback) {
             Object v = map.get(key);
             if (v == null) v = map.get(key.toUpperCase());
             if (v == null) return fallback;
@@ -376,7 +662,7 @@ public class SpeciesJsonCodec {
         }
 
         @Nonnull
-        private List<SpeciesVariantData.DefaultAttachmentDef> parseDefaultAttachments(@Nullable Object obj) {
+        private static List<SpeciesVariantData.DefaultAttachmentDef> parseDefaultAttachments(@Nullable Object obj) {
             List<SpeciesVariantData.DefaultAttachmentDef> result = new ArrayList<>();
             if (!(obj instanceof List)) return result;
             for (Object item : (List<?>) obj) {
@@ -386,15 +672,16 @@ public class SpeciesJsonCodec {
                 Object modelObj = m.get("Model");
                 Object textureObj = m.get("Texture");
                 if (modelObj != null && textureObj != null) {
-                    result.add(new SpeciesVariantData.DefaultAttachmentDef(modelObj.toString(), textureObj.toString()));
+                    result.add(new SpeciesVariantData.DefaultAttachmentDef(
+                            PathInterner.intern(modelObj.toString()), PathInterner.intern(textureObj.toString())));
                 }
             }
             return result;
         }
 
         @Nonnull
-        private Map<String, SpeciesVariantData.AttachmentSlotDef> parseV2Attachments(@Nullable Object obj) {
-            Map<String, SpeciesVariantData.AttachmentSlotDef> result = new HashMap<>();
+        private static Map<String, SpeciesVariantData.AttachmentSlotDef> parseV2Attachments(@Nullable Object obj) {
+            Map<String, SpeciesVariantData.AttachmentSlotDef> result = new LinkedHashMap<>();
             if (!(obj instanceof Map)) return result;
             @SuppressWarnings("unchecked")
             Map<String, Object> slots = (Map<String, Object>) obj;
@@ -415,7 +702,8 @@ public class SpeciesJsonCodec {
                         Object textureObj = optMap.get("Texture");
                         if (modelObj != null && textureObj != null) {
                             String name = nameObj != null ? nameObj.toString() : null;
-                            options.add(new AttachmentOption(modelObj.toString(), textureObj.toString(), name));
+                            options.add(new AttachmentOption(
+                                    PathInterner.intern(modelObj.toString()), PathInterner.intern(textureObj.toString()), name));
                         }
                     }
                 }
@@ -442,7 +730,7 @@ public class SpeciesJsonCodec {
          */
         @Nonnull
         private Map<String, Map<String, AttachmentOption>> parseManualAttachments(@Nullable Map<String, Object> attachmentsJson) {
-            Map<String, Map<String, AttachmentOption>> result = new HashMap<>();
+            Map<String, Map<String, AttachmentOption>> result = new LinkedHashMap<>();
             
             if (attachmentsJson == null) {
                 return result;
@@ -458,7 +746,7 @@ public class SpeciesJsonCodec {
                 
                 @SuppressWarnings("unchecked")
                 Map<String, Object> options = (Map<String, Object>) attachmentTypeValue;
-                Map<String, AttachmentOption> optionMap = new HashMap<>();
+                Map<String, AttachmentOption> optionMap = new LinkedHashMap<>();
                 
                 for (Map.Entry<String, Object> optionEntry : options.entrySet()) {
                     String optionName = optionEntry.getKey();
@@ -476,19 +764,19 @@ public class SpeciesJsonCodec {
                     Object displayNameObj = optionData.get("displayName");
                     
                     if (modelObj != null && textureObj != null) {
-                        String model = modelObj.toString();
-                        String texture = textureObj.toString();
+                        String model = PathInterner.intern(modelObj.toString());
+                        String texture = PathInterner.intern(textureObj.toString());
                         String displayName = displayNameObj != null ? displayNameObj.toString() : null;
                         optionMap.put(optionName, new AttachmentOption(model, texture, displayName));
                     }
                 }
                 
                 if (!optionMap.isEmpty()) {
-                    result.put(attachmentType, optionMap);
+                    result.put(attachmentType, Collections.unmodifiableMap(optionMap));
                 }
             }
             
-            return result;
+            return Collections.unmodifiableMap(result);
         }
     }
 
@@ -504,6 +792,12 @@ public class SpeciesJsonCodec {
         String description;
     }
 
+    private static class StatModifierJsonData {
+        String stat;
+        Float amount;
+        String type;
+    }
+
     /**
      * Custom deserializer for SpeciesJsonData.
      */
@@ -516,11 +810,13 @@ public class SpeciesJsonCodec {
 
             data.version = jsonObject.has("version") ? jsonObject.get("version").getAsInt() : null;
             data.id = jsonObject.has("id") ? jsonObject.get("id").getAsString() : null;
+            data.extendsId = jsonObject.has("extends") ? jsonObject.get("extends").getAsString() : null;
+            data.declared = new HashSet<>(jsonObject.keySet());
             data.displayName = jsonObject.has("displayName") ? jsonObject.get("displayName").getAsString() : null;
             data.displayNameKey = jsonObject.has("displayNameKey") ? jsonObject.get("displayNameKey").getAsString() : null;
             data.description = jsonObject.has("description") ? jsonObject.get("description").getAsString() : null;
             data.descriptionKey = jsonObject.has("descriptionKey") ? jsonObject.get("descriptionKey").getAsString() : null;
-            data.modelBaseName = jsonObject.has("modelBaseName") ? jsonObject.get("modelBaseName").getAsString() : null;
+            data.modelBaseName = jsonObject.has("modelBaseName") ? PathInterner.intern(jsonObject.get("modelBaseName").getAsString()) : null;
             data.modelNamespace = jsonObject.has("modelNamespace") ? jsonObject.get("modelNamespace").getAsString() : null;
             data.healthModifier = jsonObject.has("healthModifier") ? jsonObject.get("healthModifier").getAsInt() : 0;
             data.staminaModifier = jsonObject.has("staminaModifier") ? jsonObject.get("staminaModifier").getAsInt() : 0;
@@ -546,9 +842,14 @@ public class SpeciesJsonCodec {
                         new com.nimbusds.jose.shaded.gson.reflect.TypeToken<Map<String, Float>>(){}.getType());
             }
 
-            // Deserialize variants - can be array of strings or objects
+            // Variants - v1: array of strings or objects; v2: built per variant on first use.
+            // Kept as JSON here because the version may come from an "extends" template.
             if (jsonObject.has("variants")) {
-                data.variants = context.deserialize(jsonObject.get("variants"), List.class);
+                JsonElement variantsElement = jsonObject.get("variants");
+                if (!variantsElement.isJsonArray()) {
+                    throw new JsonParseException("variants must be an array");
+                }
+                data.variantsJson = variantsElement.getAsJsonArray();
             }
 
             // Deserialize starter items
@@ -568,6 +869,12 @@ public class SpeciesJsonCodec {
                         new TypeToken<List<AbilityJsonData>>(){}.getType());
             }
 
+            // Deserialize generic stat modifiers (any EntityStatType)
+            if (jsonObject.has("statModifiers")) {
+                data.statModifiers = context.deserialize(jsonObject.get("statModifiers"),
+                        new TypeToken<List<StatModifierJsonData>>(){}.getType());
+            }
+
             // Deserialize model scale (optional)
             if (jsonObject.has("modelScale")) {
                 data.modelScale = jsonObject.get("modelScale").getAsFloat();
@@ -4,12 +4,11 @@ import com.hypixel.hytale.assetstore.AssetPack;
 import com.hypixel.hytale.server.core.asset.AssetModule;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -26,6 +25,7 @@ import javax.annotation.Nullable;
  *       misses files (some JAR/ZIP layouts omit explicit directory entries), or when the mod JAR pack is not discoverable yet.</li>
  *   <li><b>Plugin data directory</b> — {@code Species/*.json} overrides bundled definitions.</li>
  * </ul>
+ * Species with {@code "extends"} are built after every layer is merged, from the winning definition of their template.
  */
 public class SpeciesLoader {
     private static final Logger LOGGER = Logger.getLogger(SpeciesLoader.class.getName());
@@ -45,36 +45,39 @@ public class SpeciesLoader {
     /**
      * Loads all species from asset packs, optional classpath fallback, and data directory.
      * Order of precedence (last wins for the same species id): asset packs (in module order, files within a pack sorted),
-     * classpath gap-fill, then data directory.
+     * classpath gap-fill, then data directory. The returned table records which source won for each id.
      */
     @Nonnull
-    public static List<SpeciesData> loadAll(@Nullable Path dataDirectory) {
-        List<SpeciesData> speciesList = new ArrayList<>();
+    public static SpeciesMergeTable loadAll(@Nullable Path dataDirectory) {
+        SpeciesMergeTable speciesTable = new SpeciesMergeTable();
 
-        loadFromAssetPacks(speciesList);
+        loadFromAssetPacks(speciesTable);
 
-        loadFromResources(speciesList);
+        loadFromResources(speciesTable);
 
         if (dataDirectory != null) {
-            loadFromDataDirectory(dataDirectory, speciesList);
+            loadFromDataDirectory(dataDirectory, speciesTable);
         }
 
-        LOGGER.info("Loaded " + speciesList.size() + " species total");
-        return speciesList;
+        speciesTable.resolveTemplates(null);
+
+        LOGGER.info("Loaded " + speciesTable.size() + " species total");
+        return speciesTable;
     }
 
     /**
      * Loads species JSON from one asset pack (used when a pack registers after plugin setup).
+     * Species that extend a template are left for {@link SpeciesRegistry#registerAll} to resolve.
      */
     @Nonnull
-    public static List<SpeciesData> loadSpeciesFromPack(@Nonnull AssetPack pack) {
-        List<SpeciesData> out = new ArrayList<>();
+    public static SpeciesMergeTable loadSpeciesFromPack(@Nonnull AssetPack pack) {
+        SpeciesMergeTable out = new SpeciesMergeTable();
         Path speciesDir = pack.getRoot().resolve(SPECIES_SUBDIR);
         mergeJsonSpeciesFromDirectory(speciesDir, "asset pack '" + pack.getName() + "'", out);
         return out;
     }
 
-    private static void loadFromAssetPacks(@Nonnull List<SpeciesData> speciesList) {
+    private static void loadFromAssetPacks(@Nonnull SpeciesMergeTable speciesTable) {
         AssetModule module = AssetModule.get();
         if (module == null) {
             LOGGER.warning("AssetModule not available; species will not be loaded from asset packs (fallback may apply)");
@@ -87,19 +90,19 @@ public class SpeciesLoader {
             mergeJsonSpeciesFromDirectory(
                     speciesDir,
                     "asset pack '" + pack.getName() + "' (" + (i + 1) + "/" + packs.size() + ")",
-                    speciesList
+                    speciesTable
             );
         }
     }
 
     /**
-     * Merges every {@code *.json} file in a directory into the list. Later files in {@code jsonFiles} order
+     * Merges every {@code *.json} file in a directory into the table. Later files in {@code jsonFiles} order
      * override earlier entries with the same species id.
      */
     private static void mergeJsonSpeciesFromDirectory(
             @Nonnull Path speciesDir,
             @Nonnull String sourceDescription,
-            @Nonnull List<SpeciesData> speciesList
+            @Nonnull SpeciesMergeTable speciesTable
     ) {
         List<Path> jsonFiles = collectSpeciesJsonFiles(speciesDir);
         if (jsonFiles.isEmpty()) {
@@ -109,9 +112,15 @@ public class SpeciesLoader {
         for (Path path : jsonFiles) {
             try {
                 String json = Files.readString(path);
-                SpeciesData species = SpeciesJsonCodec.fromJson(json);
-                speciesList.removeIf(s -> s.getId().equals(species.getId()));
-                speciesList.add(species);
+                SpeciesJsonCodec.ParsedSpecies parsed = SpeciesJsonCodec.parse(json);
+                if (parsed.getExtends() != null) {
+                    speciesTable.putTemplated(parsed, sourceDescription, path.getFileName().toString());
+                    LOGGER.info("Loaded species from " + sourceDescription + ": " + parsed.getId()
+                            + " (" + path.getFileName() + "), extends " + parsed.getExtends());
+                    continue;
+                }
+                SpeciesData species = parsed.resolve(null);
+                speciesTable.put(species, sourceDescription, path.getFileName().toString());
                 LOGGER.info("Loaded species from " + sourceDescription + ": " + species.getId()
                         + " (" + path.getFileName() + "), abilities=" + species.getAbilities().size());
             } catch (Exception e) {
@@ -123,11 +132,20 @@ public class SpeciesLoader {
     }
 
     /**
-     * Lists {@code *.json} under {@code speciesDir}. Some {@link java.nio.file.FileSystem}s (e.g. mod JARs)
-     * omit a real directory node for {@code Species/}, so {@link Files#list} fails; we then walk from the pack root.
+     * Lists {@code *.json} under {@code speciesDir}. JAR-backed packs are listed from a cached index of the JAR's
+     * central directory ({@link SpeciesJarIndex}), which also covers JARs that omit a directory node for
+     * {@code Species/}; other packs use {@link Files#list}. If neither lists the directory (index unavailable, e.g.
+     * nested JARs, or no directory node), we walk from the pack root.
      */
     @Nonnull
     private static List<Path> collectSpeciesJsonFiles(@Nonnull Path speciesDir) {
+        if (SpeciesJarIndex.isJarBacked(speciesDir)) {
+            List<Path> indexed = SpeciesJarIndex.listSpeciesJson(speciesDir);
+            if (indexed != null) {
+                return indexed;
+            }
+        }
+
         if (Files.isDirectory(speciesDir)) {
             try (Stream<Path> stream = Files.list(speciesDir)) {
                 return stream
@@ -144,6 +162,10 @@ public class SpeciesLoader {
         if (parent == null || !Files.exists(parent)) {
             return List.of();
         }
+        // On the default file system a missing Species/ really has no files; skip walking the whole pack
+        if (speciesDir.getFileSystem() == FileSystems.getDefault() && !Files.exists(speciesDir)) {
+            return List.of();
+        }
         Path speciesNormalized = speciesDir.normalize();
         List<Path> out = new ArrayList<>();
         try (Stream<Path> walk = Files.walk(parent, 8)) {
@@ -162,11 +184,7 @@ public class SpeciesLoader {
      * Loads built-in Orbis species from the classpath for ids not already present (asset-pack scan may find nothing).
      * Does not override species already merged from asset packs.
      */
-    private static void loadFromResources(@Nonnull List<SpeciesData> speciesList) {
-        Set<String> presentIds = new HashSet<>();
-        for (SpeciesData s : speciesList) {
-            presentIds.add(s.getId());
-        }
+    private static void loadFromResources(@Nonnull SpeciesMergeTable speciesTable) {
         try {
             for (String fileName : BUILTIN_SPECIES_RESOURCE_FILES) {
                 String resourcePath = RESOURCES_PATH + fileName;
@@ -175,11 +193,9 @@ public class SpeciesLoader {
                     try {
                         String json = new String(stream.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
                         SpeciesData species = SpeciesJsonCodec.fromJson(json);
-                        if (presentIds.contains(species.getId())) {
+                        if (!speciesTable.putIfAbsent(species, "classpath (gap-fill)", fileName)) {
                             continue;
                         }
-                        speciesList.add(species);
-                        presentIds.add(species.getId());
                         LOGGER.info("Loaded species from classpath (gap-fill): " + species.getId()
                                 + " (" + fileName + "), abilities=" + species.getAbilities().size());
                     } catch (Exception e) {
@@ -199,7 +215,7 @@ public class SpeciesLoader {
     /**
      * Loads species from the plugin data directory (user-added / overrides).
      */
-    private static void loadFromDataDirectory(@Nonnull Path dataDirectory, @Nonnull List<SpeciesData> speciesList) {
+    private static void loadFromDataDirectory(@Nonnull Path dataDirectory, @Nonnull SpeciesMergeTable speciesTable) {
         Path speciesDir = dataDirectory.resolve(SPECIES_SUBDIR);
 
         if (!Files.exists(speciesDir)) {
@@ -217,6 +233,6 @@ public class SpeciesLoader {
             return;
         }
 
-        mergeJsonSpeciesFromDirectory(speciesDir, "plugin data directory", speciesList);
+        mergeJsonSpeciesFromDirectory(speciesDir, "plugin data directory", speciesTable);
     }
 }
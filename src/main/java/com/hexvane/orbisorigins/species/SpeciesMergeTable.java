@@ -0,0 +1,291 @@
+package com.hexvane.orbisorigins.species;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Ordered species id → winning definition, with provenance.
+ * Each layer (asset pack, classpath, data directory, late pack) is merged in with constant-time work per file,
+ * so merging many packs stays linear. Iteration order matches the old list semantics: a species that is
+ * overridden moves to the end, where its winning definition was merged.
+ * Species that {@code extends} a template are kept unbuilt until {@link #resolveTemplates} runs, so they
+ * inherit from whichever definition of the template finally wins.
+ * Not thread-safe; share it across threads through {@link #snapshot()}.
+ */
+public final class SpeciesMergeTable {
+    private static final Logger LOGGER = Logger.getLogger(SpeciesMergeTable.class.getName());
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * One species id with the definition that won and every source it replaced (oldest first).
+     */
+    public static final class Entry {
+        /** Null only while {@link #pending} waits for {@link #resolveTemplates}. */
+        @Nullable
+        private final SpeciesData species;
+        @Nullable
+        private final SpeciesJsonCodec.ParsedSpecies pending;
+        /** Definition this one replaced when it extends its own id (e.g. a data-directory tweak of a bundled species). */
+        @Nullable
+        private final Entry selfTemplate;
+        private final String source;
+        @Nullable
+        private final String file;
+        private final List<String> overriddenSources;
+
+        private Entry(
+                @Nullable SpeciesData species,
+                @Nullable SpeciesJsonCodec.ParsedSpecies pending,
+                @Nullable Entry selfTemplate,
+                @Nonnull String source,
+                @Nullable String file,
+                @Nonnull List<String> overriddenSources
+        ) {
+            this.species = species;
+            this.pending = pending;
+            this.selfTemplate = selfTemplate;
+            this.source = source;
+            this.file = file;
+            this.overriddenSources = overriddenSources;
+        }
+
+        @Nonnull
+        private Entry withSpecies(@Nonnull SpeciesData resolved) {
+            return new Entry(resolved, null, null, source, file, overriddenSources);
+        }
+
+        @Nonnull
+        public SpeciesData getSpecies() {
+            if (species == null) {
+                throw new IllegalStateException("Species " + pending.getId() + " has not been resolved against its template");
+            }
+            return species;
+        }
+
+        /** Pack or layer the winning definition came from, e.g. {@code asset pack 'Foo'}. */
+        @Nonnull
+        public String getSource() {
+            return source;
+        }
+
+        /** File name of the winning definition, or null for programmatic registrations. */
+        @Nullable
+        public String getFile() {
+            return file;
+        }
+
+        /** Sources this entry replaced, oldest first, in {@link #describe()} form. */
+        @Nonnull
+        public List<String> getOverriddenSources() {
+            return overriddenSources;
+        }
+
+        /** {@code source (file)}, or just the source when there is no file. */
+        @Nonnull
+        public String describe() {
+            return file != null ? source + " (" + file + ")" : source;
+        }
+    }
+
+    /**
+     * Merges a definition; replaces any existing definition with the same id and records it as overridden.
+     */
+    public void put(@Nonnull SpeciesData species, @Nonnull String source, @Nullable String file) {
+        Entry previous = entries.remove(species.getId());
+        entries.put(species.getId(), new Entry(species, null, null, source, file, overriddenBy(previous)));
+    }
+
+    /**
+     * Merges a species that extends a template; it is built by {@link #resolveTemplates}.
+     */
+    void putTemplated(@Nonnull SpeciesJsonCodec.ParsedSpecies parsed, @Nonnull String source, @Nullable String file) {
+        Entry previous = entries.remove(parsed.getId());
+        Entry selfTemplate = parsed.getId().equals(parsed.getExtends()) ? previous : null;
+        entries.put(parsed.getId(), new Entry(null, parsed, selfTemplate, source, file, overriddenBy(previous)));
+    }
+
+    @Nonnull
+    private static List<String> overriddenBy(@Nullable Entry previous) {
+        if (previous == null) {
+            return Collections.emptyList();
+        }
+        List<String> overridden = new ArrayList<>(previous.overriddenSources.size() + 1);
+        overridden.addAll(previous.overriddenSources);
+        overridden.add(previous.describe());
+        return Collections.unmodifiableList(overridden);
+    }
+
+    /**
+     * Builds every species that extends a template, against the winning definition of the template.
+     * Species whose template is missing, invalid or part of a cycle are dropped with a warning.
+     * @param outside lookup for templates not defined in this table (e.g. the registry when merging a late pack), or null
+     */
+    public void resolveTemplates(@Nullable Function<String, SpeciesData> outside) {
+        Map<Entry, SpeciesData> resolved = new IdentityHashMap<>();
+        Map<Entry, Entry> fellBack = new IdentityHashMap<>();
+        List<String> failed = new ArrayList<>();
+        for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+            Entry entry = mapEntry.getValue();
+            if (entry.pending == null) {
+                continue;
+            }
+            SpeciesData species = resolveEntry(entry, outside, resolved, fellBack, Collections.newSetFromMap(new IdentityHashMap<>()));
+            if (species != null) {
+                // A failed self-extending override keeps the definition it would have replaced, with its provenance
+                Entry kept = fellBack.getOrDefault(entry, entry);
+                mapEntry.setValue(kept.pending == null ? kept : kept.withSpecies(species));
+            } else {
+                failed.add(mapEntry.getKey());
+            }
+        }
+        for (String id : failed) {
+            entries.remove(id);
+        }
+    }
+
+    @Nullable
+    private SpeciesData resolveEntry(
+            @Nonnull Entry entry,
+            @Nullable Function<String, SpeciesData> outside,
+            @Nonnull Map<Entry, SpeciesData> resolved,
+            @Nonnull Map<Entry, Entry> fellBack,
+            @Nonnull Set<Entry> visiting
+    ) {
+        if (entry.pending == null) {
+            return entry.species;
+        }
+        SpeciesData done = resolved.get(entry);
+        if (done != null) {
+            return done;
+        }
+        String id = entry.pending.getId();
+        String templateId = entry.pending.getExtends();
+        if (!visiting.add(entry)) {
+            LOGGER.warning("Species " + id + " (" + entry.describe() + ") is part of an extends cycle; skipping");
+            return null;
+        }
+
+        Entry templateEntry = id.equals(templateId) ? entry.selfTemplate : entries.get(templateId);
+        SpeciesData template;
+        if (templateEntry != null) {
+            template = resolveEntry(templateEntry, outside, resolved, fellBack, visiting);
+        } else {
+            template = outside != null ? outside.apply(templateId) : null;
+        }
+        if (template == null) {
+            LOGGER.warning("Species " + id + " (" + entry.describe() + ") extends " + templateId
+                    + ", which is not loaded or could not be built; skipping");
+            return null;
+        }
+
+        try {
+            SpeciesData species = entry.pending.resolve(template);
+            resolved.put(entry, species);
+            return species;
+        } catch (Exception e) {
+            LOGGER.warning("Failed to build species " + id + " (" + entry.describe() + ") from template "
+                    + templateId + " - " + e.getMessage());
+            if (entry.selfTemplate == null) {
+                return null;
+            }
+            // Self-extending override: fall back to the definition it would have replaced (already built above)
+            LOGGER.warning("Keeping " + id + " from " + entry.selfTemplate.describe() + " instead");
+            fellBack.put(entry, entry.selfTemplate);
+            resolved.put(entry, template);
+            return template;
+        }
+    }
+
+    /**
+     * Merges a definition only if no definition with the same id is present (gap-fill).
+     * @return true if the definition was added
+     */
+    public boolean putIfAbsent(@Nonnull SpeciesData species, @Nonnull String source, @Nullable String file) {
+        if (entries.containsKey(species.getId())) {
+            return false;
+        }
+        entries.put(species.getId(), new Entry(species, null, null, source, file, Collections.emptyList()));
+        return true;
+    }
+
+    /**
+     * Merges every entry of {@code layer} on top of this table, keeping the layer's own override history.
+     * The layer's templates must already be resolved.
+     */
+    public void putAll(@Nonnull SpeciesMergeTable layer) {
+        for (Entry entry : layer.entries.values()) {
+            Entry previous = entries.remove(entry.species.getId());
+            if (previous == null) {
+                entries.put(entry.species.getId(), entry);
+                continue;
+            }
+            List<String> overridden = new ArrayList<>(previous.overriddenSources.size() + 1 + entry.overriddenSources.size());
+            overridden.addAll(previous.overriddenSources);
+            overridden.add(previous.describe());
+            overridden.addAll(entry.overriddenSources);
+            entries.put(entry.species.getId(), new Entry(entry.species, null, null, entry.source, entry.file, Collections.unmodifiableList(overridden)));
+        }
+    }
+
+    @Nullable
+    public SpeciesData get(@Nonnull String id) {
+        Entry entry = entries.get(id);
+        return entry != null ? entry.species : null;
+    }
+
+    @Nullable
+    public Entry getEntry(@Nonnull String id) {
+        return entries.get(id);
+    }
+
+    public boolean contains(@Nonnull String id) {
+        return entries.containsKey(id);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    /** Entries in merge order (live view). */
+    @Nonnull
+    public Collection<Entry> entries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Unmodifiable copy of the entries by id in merge order. Entries are immutable, so the copy can be
+     * published to other threads while this table keeps changing.
+     */
+    @Nonnull
+    public Map<String, Entry> snapshot() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(entries));
+    }
+
+    /** Winning definitions in merge order (copy). */
+    @Nonnull
+    public List<SpeciesData> toSpeciesList() {
+        List<SpeciesData> out = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            out.add(entry.species);
+        }
+        return out;
+    }
+}
@@ -1,10 +1,14 @@
 package com.hexvane.orbisorigins.species;
 
 import com.hexvane.orbisorigins.util.AttachmentDiscoveryUtil;
+import com.hexvane.orbisorigins.util.PathInterner;
+import com.hexvane.orbisorigins.util.SpeciesModelCache;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageCause;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -17,25 +21,53 @@ import javax.annotation.Nullable;
  */
 public class SpeciesRegistry {
     private static final Logger LOGGER = Logger.getLogger(SpeciesRegistry.class.getName());
-    private static final Map<String, SpeciesData> SPECIES_MAP = new HashMap<>();
-    private static final List<SpeciesData> SPECIES_LIST = new ArrayList<>();
+    /**
+     * Registered species in merge order, with the source each definition came from.
+     * Only changed while holding its lock; readers use {@link #snapshot}.
+     */
+    private static final SpeciesMergeTable SPECIES_TABLE = new SpeciesMergeTable();
+    /** Source recorded for {@link #registerSpecies(SpeciesData)} callers that do not name one. */
+    private static final String PROGRAMMATIC_SOURCE = "programmatic registration";
+
+    /** Immutable view of {@link #SPECIES_TABLE}, republished after every change; safe to read from any thread. */
+    private static volatile Snapshot snapshot = new Snapshot(SPECIES_TABLE.snapshot());
+
+    private static final class Snapshot {
+        final Map<String, SpeciesMergeTable.Entry> byId;
+        final List<SpeciesData> all;
+        final List<SpeciesData> enabled;
+
+        Snapshot(@Nonnull Map<String, SpeciesMergeTable.Entry> byId) {
+            this.byId = byId;
+            List<SpeciesData> all = new ArrayList<>(byId.size());
+            List<SpeciesData> enabled = new ArrayList<>(byId.size());
+            for (SpeciesMergeTable.Entry entry : byId.values()) {
+                all.add(entry.getSpecies());
+                if (entry.getSpecies().isEnabled()) {
+                    enabled.add(entry.getSpecies());
+                }
+            }
+            this.all = Collections.unmodifiableList(all);
+            this.enabled = Collections.unmodifiableList(enabled);
+        }
+    }
 
     /**
      * Initialize the species registry by loading from JSON files.
      * @param dataDirectory Plugin data directory (can be null)
      */
     public static void initialize(@Nullable Path dataDirectory) {
-        SPECIES_MAP.clear();
-        SPECIES_LIST.clear();
-
-        // Load all species from JSON files
-        List<SpeciesData> loadedSpecies = SpeciesLoader.loadAll(dataDirectory);
-        
-        for (SpeciesData species : loadedSpecies) {
-            registerSpecies(species);
+        // Load all species from JSON files; readers keep seeing the previous species until they are registered
+        PathInterner.reset();
+        SpeciesMergeTable loadedSpecies = SpeciesLoader.loadAll(dataDirectory);
+        synchronized (SPECIES_TABLE) {
+            SPECIES_TABLE.clear();
+            registerAllLocked(loadedSpecies);
+            publish();
         }
+        SpeciesModelCache.invalidate();
 
-        LOGGER.info("SpeciesRegistry initialized with " + SPECIES_LIST.size() + " species");
+        LOGGER.info("SpeciesRegistry initialized with " + snapshot.byId.size() + " species");
     }
 
     /**
@@ -51,24 +83,113 @@ public class SpeciesRegistry {
      * Register a species programmatically (for backward compatibility).
      * Note: Species loaded from JSON files are automatically registered.
      * If attachment discovery is enabled, attachments will be discovered for all variants.
+     * Each call republishes the whole registry; register several species with {@link #registerSpecies(Collection)}.
      */
     public static void registerSpecies(@Nonnull SpeciesData species) {
-        // Remove existing species with same ID if present
-        SPECIES_LIST.removeIf(s -> s.getId().equals(species.getId()));
-        SPECIES_MAP.remove(species.getId());
-        
+        registerSpecies(Collections.singletonList(species));
+    }
+
+    /**
+     * Registers several species programmatically. Readers see either none or all of them: the registry is
+     * published once, after the last one.
+     */
+    public static void registerSpecies(@Nonnull Collection<SpeciesData> species) {
+        if (species.isEmpty()) {
+            return;
+        }
+        synchronized (SPECIES_TABLE) {
+            for (SpeciesData data : species) {
+                // Replaces any existing species with the same ID (recorded as overridden)
+                SPECIES_TABLE.put(data, PROGRAMMATIC_SOURCE, null);
+                compileDamageResistances(data);
+                data.getApplyPlan();
+            }
+            publish();
+        }
+        SpeciesModelCache.invalidate();
+        for (SpeciesData data : species) {
+            logRegistered(data);
+        }
+    }
+
+    /**
+     * Registers every species of a loaded layer (e.g. {@link SpeciesLoader#loadSpeciesFromPack}) on top of the
+     * current registry, keeping where each definition came from and what it overrode.
+     * Species in the layer that extend a template not defined in the layer inherit from the registered species.
+     */
+    public static void registerAll(@Nonnull SpeciesMergeTable layer) {
+        synchronized (SPECIES_TABLE) {
+            registerAllLocked(layer);
+            publish();
+        }
+        SpeciesModelCache.invalidate();
+    }
+
+    private static void registerAllLocked(@Nonnull SpeciesMergeTable layer) {
+        layer.resolveTemplates(SPECIES_TABLE::get);
+        SPECIES_TABLE.putAll(layer);
+        for (SpeciesMergeTable.Entry entry : layer.entries()) {
+            // One bad definition must not leave the species after it uncompiled
+            try {
+                compileDamageResistances(entry.getSpecies());
+                entry.getSpecies().getApplyPlan();
+            } catch (RuntimeException e) {
+                LOGGER.warning("Failed to compile species " + entry.getSpecies().getId() + " (" + entry.describe()
+                        + ") - " + e.getMessage());
+            }
+            logRegistered(entry.getSpecies());
+        }
+    }
+
+    /** Publishes the current table to readers; call while holding the table's lock. */
+    private static void publish() {
+        snapshot = new Snapshot(SPECIES_TABLE.snapshot());
+    }
+
+    /**
+     * Recompiles every species' damage resistances to DamageCause index tables.
+     * Called after the registry loads and whenever DamageCause assets (re)load, since indices may change.
+     */
+    public static void rebuildDamageResistanceTables() {
+        for (SpeciesData species : snapshot.all) {
+            compileDamageResistances(species);
+        }
+    }
+
+    private static void compileDamageResistances(@Nonnull SpeciesData species) {
+        if (DamageCause.getAssetMap() == null) {
+            // DamageCause assets not loaded yet; the LoadedAssetsEvent handler compiles the tables later
+            return;
+        }
+        species.compileDamageResistances(DamageCause.getAssetMap()::getIndex);
+    }
+
+    private static void logRegistered(@Nonnull SpeciesData species) {
         // If attachment discovery is enabled, discover attachments for all variants
         if (species.isAttachmentDiscoveryEnabled()) {
             LOGGER.info("SpeciesRegistry: Attachment discovery enabled for " + species.getId() + ", discovering attachments...");
             // Attachments are discovered on-demand when needed, not cached here
             // This keeps the registry simple and allows lazy loading
         }
-        
-        SPECIES_MAP.put(species.getId(), species);
-        SPECIES_LIST.add(species);
         LOGGER.info("Registered species: " + species.getId());
     }
 
+    /**
+     * Provenance of every registered species in registry order: the winning pack/file and the sources it overrode.
+     */
+    @Nonnull
+    public static List<SpeciesMergeTable.Entry> getSources() {
+        return new ArrayList<>(snapshot.byId.values());
+    }
+
+    /**
+     * Provenance of one registered species, or null if it is not registered.
+     */
+    @Nullable
+    public static SpeciesMergeTable.Entry getSource(@Nonnull String id) {
+        return snapshot.byId.get(id);
+    }
+
     /**
      * Gets available attachments for a species variant.
      * For v2: returns attachment options from variant config.
@@ -82,22 +203,9 @@ public class SpeciesRegistry {
     ) {
         Map<String, Map<String, com.hexvane.orbisorigins.species.AttachmentOption>> result = new HashMap<>();
         
-        // v2: get from variant config (no discovery); preserve JSON order via LinkedHashMap
+        // v2: get from variant config (no discovery); option maps keep JSON order and are precomputed per variant
         if (species.isVersion2()) {
-            for (String slot : species.getAttachmentSlotNames(variantIndex)) {
-                Map<String, com.hexvane.orbisorigins.species.AttachmentOption> options = species.getAttachmentOptions(variantIndex, slot);
-                if (!options.isEmpty()) {
-                    Map<String, com.hexvane.orbisorigins.species.AttachmentOption> optionMap = new LinkedHashMap<>(options);
-                    if (species.attachmentAllowsNone(variantIndex, slot)) {
-                        Map<String, com.hexvane.orbisorigins.species.AttachmentOption> withNone = new LinkedHashMap<>();
-                        withNone.put("null", new com.hexvane.orbisorigins.species.AttachmentOption("", "", "None"));
-                        withNone.putAll(optionMap);
-                        result.put(slot, withNone);
-                    } else {
-                        result.put(slot, optionMap);
-                    }
-                }
-            }
+            result.putAll(species.getVariantView(variantIndex).getSelectableAttachments());
             return result;
         }
         
@@ -121,7 +229,8 @@ public class SpeciesRegistry {
 
     @Nullable
     public static SpeciesData getSpecies(@Nonnull String id) {
-        return SPECIES_MAP.get(id);
+        SpeciesMergeTable.Entry entry = snapshot.byId.get(id);
+        return entry != null ? entry.getSpecies() : null;
     }
 
     /**
@@ -131,7 +240,7 @@ public class SpeciesRegistry {
      */
     @Nullable
     public static SpeciesData getSpeciesOrDefault(@Nonnull String id) {
-        SpeciesData species = SPECIES_MAP.get(id);
+        SpeciesData species = getSpecies(id);
         return species != null ? species : getDefaultSpecies();
     }
 
@@ -139,7 +248,7 @@ public class SpeciesRegistry {
      * Returns true if the given species id is currently registered and enabled.
      */
     public static boolean isSpeciesAvailable(@Nonnull String id) {
-        SpeciesData species = SPECIES_MAP.get(id);
+        SpeciesData species = getSpecies(id);
         return species != null && species.isEnabled();
     }
 
@@ -149,13 +258,7 @@ public class SpeciesRegistry {
      */
     @Nonnull
     public static List<SpeciesData> getAllSpecies() {
-        List<SpeciesData> enabledSpecies = new ArrayList<>();
-        for (SpeciesData species : SPECIES_LIST) {
-            if (species.isEnabled()) {
-                enabledSpecies.add(species);
-            }
-        }
-        return enabledSpecies;
+        return new ArrayList<>(snapshot.enabled);
     }
 
     /**
@@ -164,7 +267,7 @@ public class SpeciesRegistry {
      */
     @Nonnull
     public static List<SpeciesData> getAllSpeciesIncludingDisabled() {
-        return new ArrayList<>(SPECIES_LIST);
+        return new ArrayList<>(snapshot.all);
     }
 
     /**
@@ -177,7 +280,7 @@ public class SpeciesRegistry {
         if (orbian != null) {
             return orbian;
         }
-        List<SpeciesData> enabled = getAllSpecies();
+        List<SpeciesData> enabled = snapshot.enabled;
         return enabled.isEmpty() ? null : enabled.get(0);
     }
 }
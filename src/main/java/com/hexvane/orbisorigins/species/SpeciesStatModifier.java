@@ -0,0 +1,70 @@
+package com.hexvane.orbisorigins.species;
+
+import java.util.Locale;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A modifier a species applies to the maximum of an EntityStatType.
+ * Parsed from the species JSON {@code statModifiers} array.
+ */
+public class SpeciesStatModifier {
+    /** How {@link #getAmount()} is combined with the stat's maximum. */
+    public enum Type {
+        ADDITIVE,
+        MULTIPLICATIVE;
+
+        /** Parses a JSON type name (case-insensitive); null if unknown. */
+        @Nullable
+        public static Type fromName(@Nonnull String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    @Nonnull
+    private final String statId;
+    private final float amount;
+    @Nonnull
+    private final Type type;
+
+    public SpeciesStatModifier(@Nonnull String statId, float amount, @Nonnull Type type) {
+        this.statId = statId;
+        this.amount = amount;
+        this.type = type;
+    }
+
+    /** EntityStatType id, e.g. {@code "Health"} or {@code "Oxygen"}. */
+    @Nonnull
+    public String getStatId() {
+        return statId;
+    }
+
+    public float getAmount() {
+        return amount;
+    }
+
+    @Nonnull
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SpeciesStatModifier other)) {
+            return false;
+        }
+        return statId.equals(other.statId) && Float.compare(amount, other.amount) == 0 && type == other.type;
+    }
+
+    @Override
+    public int hashCode() {
+        return (statId.hashCode() * 31 + Float.floatToIntBits(amount)) * 31 + type.ordinal();
+    }
+}
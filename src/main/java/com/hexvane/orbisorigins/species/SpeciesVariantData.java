@@ -1,9 +1,10 @@
 package com.hexvane.orbisorigins.species;
 
 import com.hypixel.hytale.math.shape.Box;
+import com.hypixel.hytale.server.core.asset.type.model.config.ModelAttachment;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Nonnull;
@@ -22,6 +23,8 @@ public class SpeciesVariantData {
     private final Float crouchOffset;
     private final Box hitBox;
     private final List<DefaultAttachmentDef> defaultAttachments;
+    /** {@link DefaultAttachmentDef#getModelAttachment()} of every default attachment, in order. */
+    private final ModelAttachment[] defaultModelAttachments;
     private final Map<String, AttachmentSlotDef> attachments;
     /** Optional scale for this variant; null = use species modelScale. */
     private final Float scale;
@@ -92,22 +95,78 @@ public class SpeciesVariantData {
             @Nullable Float sittingOffset,
             @Nullable Float sleepingOffset,
             @Nullable Float sleepingRaiseHeight
+    ) {
+        this(variantName, parentModel, model,
+                Collections.unmodifiableList(new ArrayList<>(textures)),
+                eyeHeight, crouchOffset, hitBox,
+                Collections.unmodifiableList(new ArrayList<>(defaultAttachments)),
+                Collections.unmodifiableMap(new LinkedHashMap<>(attachments)),
+                scale, sittingOffset, sleepingOffset, sleepingRaiseHeight, true);
+    }
+
+    /**
+     * Stores the given collections as-is, so variants built from a template can share its textures,
+     * hitbox and attachment definitions. Callers must pass unmodifiable collections.
+     * {@code noCopy} only distinguishes this constructor from the public copying one.
+     */
+    private SpeciesVariantData(
+            @Nonnull String variantName,
+            @Nonnull String parentModel,
+            @Nonnull String model,
+            @Nonnull List<String> textures,
+            @Nullable Float eyeHeight,
+            @Nullable Float crouchOffset,
+            @Nullable Box hitBox,
+            @Nonnull List<DefaultAttachmentDef> defaultAttachments,
+            @Nonnull Map<String, AttachmentSlotDef> attachments,
+            @Nullable Float scale,
+            @Nullable Float sittingOffset,
+            @Nullable Float sleepingOffset,
+            @Nullable Float sleepingRaiseHeight,
+            boolean noCopy
     ) {
         this.variantName = variantName;
         this.parentModel = parentModel;
         this.model = model;
-        this.textures = new ArrayList<>(textures);
+        this.textures = textures;
         this.eyeHeight = eyeHeight;
         this.crouchOffset = crouchOffset;
         this.hitBox = hitBox;
-        this.defaultAttachments = new ArrayList<>(defaultAttachments);
-        this.attachments = new HashMap<>(attachments);
+        this.defaultAttachments = defaultAttachments;
+        this.defaultModelAttachments = new ModelAttachment[defaultAttachments.size()];
+        for (int i = 0; i < defaultModelAttachments.length; i++) {
+            defaultModelAttachments[i] = defaultAttachments.get(i).getModelAttachment();
+        }
+        this.attachments = attachments;
         this.scale = scale;
         this.sittingOffset = sittingOffset;
         this.sleepingOffset = sleepingOffset;
         this.sleepingRaiseHeight = sleepingRaiseHeight;
     }
 
+    /**
+     * Used by {@link SpeciesJsonCodec}; the collections are stored without copying (see the private constructor).
+     */
+    @Nonnull
+    static SpeciesVariantData createShared(
+            @Nonnull String variantName,
+            @Nonnull String parentModel,
+            @Nonnull String model,
+            @Nonnull List<String> textures,
+            @Nullable Float eyeHeight,
+            @Nullable Float crouchOffset,
+            @Nullable Box hitBox,
+            @Nonnull List<DefaultAttachmentDef> defaultAttachments,
+            @Nonnull Map<String, AttachmentSlotDef> attachments,
+            @Nullable Float scale,
+            @Nullable Float sittingOffset,
+            @Nullable Float sleepingOffset,
+            @Nullable Float sleepingRaiseHeight
+    ) {
+        return new SpeciesVariantData(variantName, parentModel, model, textures, eyeHeight, crouchOffset, hitBox,
+                defaultAttachments, attachments, scale, sittingOffset, sleepingOffset, sleepingRaiseHeight, true);
+    }
+
     @Nonnull
     public String getVariantName() {
         return variantName;
@@ -125,7 +184,7 @@ public class SpeciesVariantData {
 
     @Nonnull
     public List<String> getTextures() {
-        return Collections.unmodifiableList(textures);
+        return textures;
     }
 
     @Nullable
@@ -181,12 +240,20 @@ public class SpeciesVariantData {
 
     @Nonnull
     public List<DefaultAttachmentDef> getDefaultAttachments() {
-        return Collections.unmodifiableList(defaultAttachments);
+        return defaultAttachments;
+    }
+
+    /**
+     * The model attachments of {@link #getDefaultAttachments()}, built once; shared, do not modify.
+     */
+    @Nonnull
+    public ModelAttachment[] getDefaultModelAttachments() {
+        return defaultModelAttachments;
     }
 
     @Nonnull
     public Map<String, AttachmentSlotDef> getAttachments() {
-        return Collections.unmodifiableMap(attachments);
+        return attachments;
     }
 
     /**
@@ -195,10 +262,12 @@ public class SpeciesVariantData {
     public static class DefaultAttachmentDef {
         private final String model;
         private final String texture;
+        private final ModelAttachment modelAttachment;
 
         public DefaultAttachmentDef(@Nonnull String model, @Nonnull String texture) {
             this.model = model;
             this.texture = texture;
+            this.modelAttachment = new ModelAttachment(model, texture, null, null, 1.0);
         }
 
         @Nonnull
@@ -210,6 +279,12 @@ public class SpeciesVariantData {
         public String getTexture() {
             return texture;
         }
+
+        /** The attachment as added to built models; shared, do not modify. */
+        @Nonnull
+        public ModelAttachment getModelAttachment() {
+            return modelAttachment;
+        }
     }
 
     /**
@@ -0,0 +1,76 @@
+package com.hexvane.orbisorigins.species;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * One v2 variant of a species as loaded from JSON.
+ * The variant object is kept as compact JSON text and only built into a {@link SpeciesVariantData}
+ * the first time it is requested. Most variants of large species (trork, kweebec) are never selected,
+ * so their texture lists, hitboxes and attachment option lists are never parsed.
+ * A variant that {@code extends} a template variant keeps a link to the template's slot and shares
+ * every part it does not override.
+ *
+ * <p>Every check that rejects a variant (missing ParentModel/Model, Scale &lt;= 0) runs for every slot at load
+ * time, so a malformed variant still fails its species file there. What is left for the first access is lenient
+ * parsing; if it throws anyway, the exception reaches the caller of {@link #get()} (usually the world thread
+ * applying the variant) and the slot stays unbuilt, so the next access fails the same way.
+ */
+final class SpeciesVariantSlot {
+    private final String parentModel;
+    /** Raw variant JSON; released once the variant has been built. */
+    @Nullable
+    private String rawJson;
+    /** Template variant this one inherits from, or null. */
+    @Nullable
+    private final SpeciesVariantSlot base;
+    @Nullable
+    private volatile SpeciesVariantData data;
+
+    /**
+     * Creates a slot that builds its variant from {@code rawJson} on first access.
+     * The JSON must already have passed {@link SpeciesJsonCodec}'s load-time validation.
+     */
+    SpeciesVariantSlot(@Nonnull String parentModel, @Nonnull String rawJson, @Nullable SpeciesVariantSlot base) {
+        this.parentModel = parentModel;
+        this.rawJson = rawJson;
+        this.base = base;
+    }
+
+    /**
+     * Creates a slot around an already built variant (programmatic registration).
+     */
+    SpeciesVariantSlot(@Nonnull SpeciesVariantData data) {
+        this.parentModel = data.getParentModel();
+        this.base = null;
+        this.data = data;
+    }
+
+    /**
+     * Parent model of the variant; available without building the variant.
+     */
+    @Nonnull
+    String getParentModel() {
+        return parentModel;
+    }
+
+    /**
+     * Returns the variant, building and memoizing it on first call. Safe to call from any thread.
+     */
+    @Nonnull
+    SpeciesVariantData get() {
+        SpeciesVariantData result = data;
+        if (result != null) {
+            return result;
+        }
+        synchronized (this) {
+            result = data;
+            if (result == null) {
+                result = SpeciesJsonCodec.parseVariantJson(rawJson, base != null ? base.get() : null);
+                data = result;
+                rawJson = null;
+            }
+            return result;
+        }
+    }
+}
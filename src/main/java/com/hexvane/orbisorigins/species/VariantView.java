@@ -0,0 +1,244 @@
+package com.hexvane.orbisorigins.species;
+
+import com.hypixel.hytale.math.shape.Box;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Resolved, immutable view of one species variant, for both v1 and v2 species.
+ * Built once per variant index (see {@link SpeciesData#getVariantView(int)}) so the apply, maintenance and
+ * sleeping paths read plain fields instead of branching on version and repeating list and map lookups.
+ * Geometry overrides are already multiplied by the variant scale; null means "use the parent model's value".
+ */
+public final class VariantView {
+    /** Key of the "None" option added to slots that allow no attachment. */
+    public static final String NONE_OPTION_KEY = "null";
+
+    private final int variantIndex;
+    private final String modelAssetId;
+    @Nullable
+    private final SpeciesVariantData variant;
+    private final float scale;
+    private final float eyeHeightModifier;
+    private final float hitboxHeightModifier;
+    @Nullable
+    private final Float eyeHeight;
+    @Nullable
+    private final Float crouchOffset;
+    @Nullable
+    private final Float sittingOffset;
+    @Nullable
+    private final Float sleepingOffset;
+    @Nullable
+    private final Box hitBox;
+    private final float sleepingRaiseHeight;
+    private final Map<String, Map<String, AttachmentOption>> attachmentOptions;
+    private final Map<String, Map<String, AttachmentOption>> selectableAttachments;
+
+    private VariantView(
+            int variantIndex,
+            @Nonnull String modelAssetId,
+            @Nullable SpeciesVariantData variant,
+            float scale,
+            float eyeHeightModifier,
+            float hitboxHeightModifier,
+            @Nullable Float eyeHeight,
+            @Nullable Float crouchOffset,
+            @Nullable Float sittingOffset,
+            @Nullable Float sleepingOffset,
+            @Nullable Box hitBox,
+            float sleepingRaiseHeight,
+            @Nonnull Map<String, Map<String, AttachmentOption>> attachmentOptions,
+            @Nonnull Map<String, Map<String, AttachmentOption>> selectableAttachments
+    ) {
+        this.variantIndex = variantIndex;
+        this.modelAssetId = modelAssetId;
+        this.variant = variant;
+        this.scale = scale;
+        this.eyeHeightModifier = eyeHeightModifier;
+        this.hitboxHeightModifier = hitboxHeightModifier;
+        this.eyeHeight = eyeHeight;
+        this.crouchOffset = crouchOffset;
+        this.sittingOffset = sittingOffset;
+        this.sleepingOffset = sleepingOffset;
+        this.hitBox = hitBox;
+        this.sleepingRaiseHeight = sleepingRaiseHeight;
+        this.attachmentOptions = attachmentOptions;
+        this.selectableAttachments = selectableAttachments;
+    }
+
+    /**
+     * Resolves the view of a v1 variant; an out-of-range index resolves to the species' base model.
+     */
+    @Nonnull
+    static VariantView ofV1(@Nonnull SpeciesData species, int variantIndex, @Nonnull String modelAssetId) {
+        return new VariantView(
+                variantIndex,
+                modelAssetId,
+                null,
+                species.getModelScale(),
+                species.getEyeHeightModifier(modelAssetId),
+                species.getHitboxHeightModifier(modelAssetId),
+                null, null, null, null, null,
+                species.getSleepingRaiseHeight(),
+                Collections.emptyMap(),
+                Collections.emptyMap()
+        );
+    }
+
+    /**
+     * Resolves the view of a v2 variant (builds the variant if it has not been built yet).
+     */
+    @Nonnull
+    static VariantView ofV2(@Nonnull SpeciesData species, int variantIndex, @Nonnull SpeciesVariantData variant) {
+        float scale = variant.getScale() != null ? variant.getScale() : species.getModelScale();
+        Box hitBox = variant.getHitBox();
+        if (hitBox != null && scale != 1.0f) {
+            hitBox = hitBox.clone().scale(scale);
+        }
+
+        Map<String, Map<String, AttachmentOption>> attachmentOptions = new LinkedHashMap<>();
+        Map<String, Map<String, AttachmentOption>> selectableAttachments = new LinkedHashMap<>();
+        for (Map.Entry<String, SpeciesVariantData.AttachmentSlotDef> slot : variant.getAttachments().entrySet()) {
+            Map<String, AttachmentOption> options = new LinkedHashMap<>();
+            int i = 0;
+            for (AttachmentOption opt : slot.getValue().getOptions()) {
+                String key = opt.getDisplayNameOrDefault(null);
+                if (key == null || key.isEmpty()) key = "option_" + i;
+                options.put(key, opt);
+                i++;
+            }
+            attachmentOptions.put(slot.getKey(), Collections.unmodifiableMap(options));
+            if (options.isEmpty()) {
+                continue;
+            }
+            if (slot.getValue().isAllowsNone()) {
+                Map<String, AttachmentOption> withNone = new LinkedHashMap<>();
+                withNone.put(NONE_OPTION_KEY, new AttachmentOption("", "", "None"));
+                withNone.putAll(options);
+                selectableAttachments.put(slot.getKey(), Collections.unmodifiableMap(withNone));
+            } else {
+                selectableAttachments.put(slot.getKey(), Collections.unmodifiableMap(options));
+            }
+        }
+
+        return new VariantView(
+                variantIndex,
+                variant.getParentModel(),
+                variant,
+                scale,
+                0.0f,
+                0.0f,
+                scaled(variant.getEyeHeight(), scale),
+                scaled(variant.getCrouchOffset(), scale),
+                scaled(variant.getSittingOffset(), scale),
+                scaled(variant.getSleepingOffset(), scale),
+                hitBox,
+                variant.getSleepingRaiseHeight() != null ? variant.getSleepingRaiseHeight() : species.getSleepingRaiseHeight(),
+                Collections.unmodifiableMap(attachmentOptions),
+                Collections.unmodifiableMap(selectableAttachments)
+        );
+    }
+
+    @Nullable
+    private static Float scaled(@Nullable Float value, float scale) {
+        return value != null ? value * scale : null;
+    }
+
+    public int getVariantIndex() {
+        return variantIndex;
+    }
+
+    /**
+     * Model asset id the player's ModelComponent should carry (v1 variant model, v2 parent model).
+     */
+    @Nonnull
+    public String getModelAssetId() {
+        return modelAssetId;
+    }
+
+    /**
+     * The v2 variant definition (model path, textures, default attachments); null for v1.
+     */
+    @Nullable
+    public SpeciesVariantData getVariant() {
+        return variant;
+    }
+
+    /** Effective model scale (variant scale, else species modelScale). */
+    public float getScale() {
+        return scale;
+    }
+
+    /** v1 additive eye height modifier in blocks; 0 for v2. */
+    public float getEyeHeightModifier() {
+        return eyeHeightModifier;
+    }
+
+    /** v1 additive hitbox height modifier in blocks; 0 for v2. */
+    public float getHitboxHeightModifier() {
+        return hitboxHeightModifier;
+    }
+
+    /** v2 eye height override, scaled; null = parent model's. */
+    @Nullable
+    public Float getEyeHeight() {
+        return eyeHeight;
+    }
+
+    /** v2 crouch offset override, scaled; null = parent model's. */
+    @Nullable
+    public Float getCrouchOffset() {
+        return crouchOffset;
+    }
+
+    /** v2 sitting offset override, scaled; null = parent model's. */
+    @Nullable
+    public Float getSittingOffset() {
+        return sittingOffset;
+    }
+
+    /** v2 sleeping offset override, scaled; null = parent model's. */
+    @Nullable
+    public Float getSleepingOffset() {
+        return sleepingOffset;
+    }
+
+    /**
+     * v2 hitbox override, already scaled; null = parent model's. Shared, do not modify.
+     */
+    @Nullable
+    public Box getHitBox() {
+        return hitBox;
+    }
+
+    /** Blocks to raise the player while sleeping (variant override, else species value). */
+    public float getSleepingRaiseHeight() {
+        return sleepingRaiseHeight;
+    }
+
+    /**
+     * v2 attachment slots in JSON order: slot -> option key (Name or "option_N") -> option.
+     */
+    @Nonnull
+    public Map<String, Map<String, AttachmentOption>> getAttachmentOptions() {
+        return attachmentOptions;
+    }
+
+    /**
+     * Non-empty v2 slots as offered in the GUI, with a leading {@link #NONE_OPTION_KEY} entry where the slot allows none.
+     */
+    @Nonnull
+    public Map<String, Map<String, AttachmentOption>> getSelectableAttachments() {
+        return selectableAttachments;
+    }
+
+    public boolean attachmentAllowsNone(@Nonnull String slot) {
+        if (variant == null) return false;
+        SpeciesVariantData.AttachmentSlotDef slotDef = variant.getAttachments().get(slot);
+        return slotDef != null && slotDef.isAllowsNone();
+    }
+}
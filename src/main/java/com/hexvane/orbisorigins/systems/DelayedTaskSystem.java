@@ -0,0 +1,22 @@
+package com.hexvane.orbisorigins.systems;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hexvane.orbisorigins.util.DelayedTaskScheduler;
+import javax.annotation.Nonnull;
+
+/**
+ * Advances the {@link DelayedTaskScheduler} wheel of each world once per tick.
+ */
+public class DelayedTaskSystem extends TickingSystem<EntityStore> {
+
+    @Override
+    public void tick(float dt, int systemIndex, @Nonnull Store<EntityStore> store) {
+        World world = store.getExternalData().getWorld();
+        if (world != null) {
+            DelayedTaskScheduler.tick(world);
+        }
+    }
+}
@@ -17,10 +17,13 @@ import com.hexvane.orbisorigins.data.PlayerSpeciesData;
 import com.hexvane.orbisorigins.data.PlayerDataStorage;
 import com.hexvane.orbisorigins.species.SpeciesData;
 import com.hexvane.orbisorigins.species.SpeciesRegistry;
+import com.hexvane.orbisorigins.util.DelayedTaskScheduler;
 import com.hexvane.orbisorigins.util.ModelUtil;
 import com.hexvane.orbisorigins.util.SpeciesStatUtil;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
 
@@ -34,6 +37,9 @@ public class FirstJoinSystem extends HolderSystem<EntityStore> {
     // Cache the query to avoid null issues during plugin setup
     private static final Query<EntityStore> QUERY = PlayerRef.getComponentType();
 
+    /** Item grants not yet run, so they can be cancelled if the player leaves first. */
+    private final Map<UUID, DelayedTaskScheduler.TaskHandle> pendingGrants = new ConcurrentHashMap<>();
+
     @Nonnull
     @Override
     public Query<EntityStore> getQuery() {
@@ -86,9 +92,10 @@ public class FirstJoinSystem extends HolderSystem<EntityStore> {
         // Defer item giving to next tick to ensure inventory is ready
         // Get PlayerRef component from holder for deferred execution
         PlayerRef playerRefComponent = holder.getComponent(PlayerRef.getComponentType());
-        if (playerRefComponent != null) {
+        if (playerRefComponent != null && playerUuid != null) {
             LOGGER.info("FirstJoinSystem: Got PlayerRef component, scheduling deferred item give");
-            world.execute(() -> {
+            DelayedTaskScheduler.TaskHandle previous = pendingGrants.put(playerUuid, DelayedTaskScheduler.schedule(world, 1, () -> {
+                pendingGrants.remove(playerUuid);
                 LOGGER.info("FirstJoinSystem: Deferred execution started");
                 Ref<EntityStore> ref = playerRefComponent.getReference();
                 if (ref != null && ref.isValid()) {
@@ -112,9 +119,12 @@ public class FirstJoinSystem extends HolderSystem<EntityStore> {
                 } else {
                     LOGGER.warning("FirstJoinSystem: PlayerRef.getReference() returned null or invalid in deferred execution");
                 }
-            });
+            }));
+            if (previous != null) {
+                previous.cancel();
+            }
         } else {
-            LOGGER.warning("FirstJoinSystem: PlayerRef component is null in holder");
+            LOGGER.warning("FirstJoinSystem: PlayerRef or UUID component is null in holder");
         }
     }
 
@@ -124,6 +134,13 @@ public class FirstJoinSystem extends HolderSystem<EntityStore> {
             @Nonnull RemoveReason reason,
             @Nonnull Store<EntityStore> store
     ) {
-        // No cleanup needed
+        // Player left before the item was given; it is given on their next join instead
+        UUIDComponent uuidComponent = holder.getComponent(UUIDComponent.getComponentType());
+        if (uuidComponent != null) {
+            DelayedTaskScheduler.TaskHandle pending = pendingGrants.remove(uuidComponent.getUuid());
+            if (pending != null) {
+                pending.cancel();
+            }
+        }
     }
 }
@@ -0,0 +1,188 @@
+package com.hexvane.orbisorigins.systems;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+
+/**
+ * Admission queue for species application on join. When hundreds of players arrive at once (e.g. after
+ * a restart), applying stats, abilities and models to all of them in their spawn tick stalls the world;
+ * instead {@link SpeciesModelSystem} queues the work here and each world admits players every tick until
+ * the per-tick time budget is used up (at least one per tick, so the queue always drains). Admitted work
+ * writes components, so each tick's batch runs through {@link World#execute}, outside system processing.
+ * <p>
+ * Players are admitted in arrival order (the server gives no load progress to rank them by; the earliest
+ * arrival has been loading longest). The model build deferred a few ticks after admission is queued again
+ * as a follow-up ({@link #enqueueFollowUp}), so it is charged to the same budget.
+ */
+public class SpeciesAdmissionSystem extends TickingSystem<EntityStore> {
+    private static final Logger LOGGER = Logger.getLogger(SpeciesAdmissionSystem.class.getName());
+
+    private static final AtomicInteger DEPTH = new AtomicInteger();
+    private static final AtomicInteger PEAK_DEPTH = new AtomicInteger();
+    private static final LongAdder ADMITTED = new LongAdder();
+    private static final LongAdder TOTAL_WAIT_NANOS = new LongAdder();
+    private static final AtomicLong MAX_WAIT_NANOS = new AtomicLong();
+
+    private static final class Pending {
+        final UUID uuid;
+        final Ref<EntityStore> ref;
+        final Runnable apply;
+        final long enqueuedAt;
+        /** Later work for an already admitted player; not counted as an admission. */
+        final boolean followUp;
+        boolean cancelled;
+
+        Pending(@Nonnull UUID uuid, @Nonnull Ref<EntityStore> ref, @Nonnull Runnable apply, long enqueuedAt, boolean followUp) {
+            this.uuid = uuid;
+            this.ref = ref;
+            this.apply = apply;
+            this.enqueuedAt = enqueuedAt;
+            this.followUp = followUp;
+        }
+    }
+
+    private final long budgetNanos;
+    /** Per-world queues; each is only touched on its world's thread. */
+    private final Map<World, ArrayDeque<Pending>> queues = new ConcurrentHashMap<>();
+    /** Worlds with an admission batch handed to {@link World#execute} that has not run yet. */
+    private final Set<World> scheduled = ConcurrentHashMap.newKeySet();
+    /** Queued entries by player, so a player who leaves can be dropped. */
+    private final Map<UUID, Pending> byPlayer = new ConcurrentHashMap<>();
+
+    /**
+     * @param budgetMicros time per tick and world spent applying species to queued players
+     */
+    public SpeciesAdmissionSystem(int budgetMicros) {
+        this.budgetNanos = Math.max(0, budgetMicros) * 1000L;
+    }
+
+    /**
+     * Queues {@code apply} for the player. Called on the world thread; replaces an entry already queued for them.
+     */
+    public void enqueue(@Nonnull World world, @Nonnull UUID uuid, @Nonnull Ref<EntityStore> ref, @Nonnull Runnable apply) {
+        add(world, new Pending(uuid, ref, apply, System.nanoTime(), false));
+    }
+
+    /**
+     * Queues further join work for an admitted player (their deferred model build) under the same per-tick
+     * budget. Called on the world thread; not counted in the admission statistics.
+     */
+    public void enqueueFollowUp(@Nonnull World world, @Nonnull UUID uuid, @Nonnull Ref<EntityStore> ref, @Nonnull Runnable apply) {
+        add(world, new Pending(uuid, ref, apply, System.nanoTime(), true));
+    }
+
+    private void add(@Nonnull World world, @Nonnull Pending pending) {
+        UUID uuid = pending.uuid;
+        Pending previous = byPlayer.put(uuid, pending);
+        if (previous != null && !previous.cancelled) {
+            previous.cancelled = true;
+            DEPTH.decrementAndGet();
+        }
+        queues.computeIfAbsent(world, w -> new ArrayDeque<>()).add(pending);
+        int depth = DEPTH.incrementAndGet();
+        PEAK_DEPTH.accumulateAndGet(depth, Math::max);
+    }
+
+    /**
+     * Drops the player's queued application (they left before being admitted).
+     */
+    public void cancel(@Nonnull UUID uuid) {
+        Pending pending = byPlayer.remove(uuid);
+        if (pending != null && !pending.cancelled) {
+            pending.cancelled = true;
+            DEPTH.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, @Nonnull Store<EntityStore> store) {
+        World world = store.getExternalData().getWorld();
+        ArrayDeque<Pending> queue = world != null ? queues.get(world) : null;
+        if (queue == null || queue.isEmpty() || !scheduled.add(world)) {
+            return;
+        }
+        world.execute(() -> admit(world));
+    }
+
+    /**
+     * Admits queued players of the world until this tick's budget is used up. Runs via {@link World#execute}.
+     */
+    private void admit(@Nonnull World world) {
+        scheduled.remove(world);
+        ArrayDeque<Pending> queue = queues.get(world);
+        if (queue == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        long now = start;
+        boolean admittedOne = false;
+        while (!queue.isEmpty() && (!admittedOne || now < deadline)) {
+            Pending pending = queue.poll();
+            if (pending.cancelled) {
+                continue;
+            }
+            pending.cancelled = true; // no longer queued
+            byPlayer.remove(pending.uuid, pending);
+            DEPTH.decrementAndGet();
+            if (pending.ref.isValid()) {
+                if (!pending.followUp) {
+                    long waited = now - pending.enqueuedAt;
+                    TOTAL_WAIT_NANOS.add(waited);
+                    MAX_WAIT_NANOS.accumulateAndGet(waited, Math::max);
+                    ADMITTED.increment();
+                }
+                try {
+                    pending.apply.run();
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "SpeciesAdmissionSystem: Failed to apply species to player " + pending.uuid, e);
+                }
+                admittedOne = true;
+            }
+            now = System.nanoTime();
+        }
+        if (queue.isEmpty()) {
+            queues.remove(world, queue);
+        }
+    }
+
+    /** Entries currently waiting (joins and deferred model builds), across all worlds. */
+    public static int getQueueDepth() {
+        return DEPTH.get();
+    }
+
+    /** Most players ever waiting at once. */
+    public static int getPeakQueueDepth() {
+        return PEAK_DEPTH.get();
+    }
+
+    /** Players admitted since startup. */
+    public static long getAdmittedCount() {
+        return ADMITTED.sum();
+    }
+
+    /** Mean time from join to admission, in milliseconds. */
+    public static double getAverageWaitMillis() {
+        long admitted = ADMITTED.sum();
+        return admitted == 0 ? 0.0 : TOTAL_WAIT_NANOS.sum() / 1_000_000.0 / admitted;
+    }
+
+    /** Longest time from join to admission, in milliseconds. */
+    public static double getMaxWaitMillis() {
+        return MAX_WAIT_NANOS.get() / 1_000_000.0;
+    }
+}
@@ -3,13 +3,12 @@ package com.hexvane.orbisorigins.systems;
 import com.hypixel.hytale.component.Archetype;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
-import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.dependency.Dependency;
 import com.hypixel.hytale.component.dependency.Order;
 import com.hypixel.hytale.component.dependency.SystemGroupDependency;
-import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
 import com.hypixel.hytale.server.core.modules.entity.damage.DamageCause;
 import com.hypixel.hytale.server.core.modules.entity.damage.DamageEventSystem;
@@ -18,18 +17,21 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hexvane.orbisorigins.data.PlayerSpeciesData;
+import com.hexvane.orbisorigins.data.SpeciesComponent;
 import com.hexvane.orbisorigins.species.SpeciesData;
 import com.hexvane.orbisorigins.species.SpeciesRegistry;
 import java.util.Set;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * System that applies species-specific damage resistances to players.
  */
 public class SpeciesDamageResistanceSystem extends DamageEventSystem {
     // Use PlayerRef.getComponentType() which is available during plugin setup
-    // Player.getComponentType() is null during setup, so we query for PlayerRef instead
-    private static final Query<EntityStore> QUERY = PlayerRef.getComponentType();
+    // Player.getComponentType() is null during setup, so we query for PlayerRef instead.
+    // Not narrowed to SpeciesComponent: players with a stored selection they have not confirmed keep their resistances
+    private final Query<EntityStore> query = PlayerRef.getComponentType();
 
     @Nonnull
     @Override
@@ -56,7 +58,7 @@ public class SpeciesDamageResistanceSystem extends DamageEventSystem {
     public Query<EntityStore> getQuery() {
         // Query for PlayerRef (which is always present on players) instead of Player component
         // Player.getComponentType() is null during plugin setup
-        return QUERY;
+        return query;
     }
 
     @Override
@@ -67,50 +69,47 @@ public class SpeciesDamageResistanceSystem extends DamageEventSystem {
             @Nonnull CommandBuffer<EntityStore> commandBuffer,
             @Nonnull Damage damage
     ) {
-        // Get the entity reference from the archetype chunk
-        Ref<EntityStore> targetRef = archetypeChunk.getReferenceTo(index);
-        if (targetRef == null || !targetRef.isValid()) {
-            return;
-        }
-
-        // Get player component
-        Player playerComponent = archetypeChunk.getComponent(index, Player.getComponentType());
-        if (playerComponent == null) {
-            return;
-        }
-
-        // Get world
-        World world = store.getExternalData().getWorld();
-        if (world == null) {
-            return;
-        }
-
-        // Use effective species so that removed species fall back to default without breaking
-        String speciesId = PlayerSpeciesData.getEffectiveSpeciesId(targetRef, store, world);
+        // Component holds the effective species, so removed species already fall back to default
+        SpeciesComponent speciesComponent = archetypeChunk.getComponent(index, SpeciesComponent.getComponentType());
+        String speciesId = speciesComponent != null ? speciesComponent.getSpeciesId() : storedSpeciesId(index, archetypeChunk, store);
         if (speciesId == null) {
             return;
         }
-
         SpeciesData species = SpeciesRegistry.getSpeciesOrDefault(speciesId);
         if (species == null) {
             return;
         }
 
-        // Get damage cause
+        // Resistance multiplier from the species' table compiled by DamageCause index
         int damageCauseIndex = damage.getDamageCauseIndex();
-        DamageCause damageCause = DamageCause.getAssetMap().getAsset(damageCauseIndex);
-        if (damageCause == null) {
-            return;
+        float resistance = species.getDamageResistance(damageCauseIndex);
+        if (Float.isNaN(resistance)) {
+            // Table not compiled yet (DamageCause assets still loading); fall back to the id lookup
+            DamageCause damageCause = DamageCause.getAssetMap().getAsset(damageCauseIndex);
+            if (damageCause == null) {
+                return;
+            }
+            resistance = species.getDamageResistance(damageCause.getId());
         }
 
-        String damageType = damageCause.getId();
-
         // Apply resistance multiplier
-        float resistance = species.getDamageResistance(damageType);
         if (resistance != 1.0f) {
             float currentAmount = damage.getAmount();
             float newAmount = currentAmount * resistance;
             damage.setAmount(newAmount);
         }
     }
+
+    /**
+     * Effective species of a stored selection the player has not confirmed (no {@link SpeciesComponent}), or null.
+     */
+    @Nullable
+    private static String storedSpeciesId(int index, @Nonnull ArchetypeChunk<EntityStore> archetypeChunk, @Nonnull Store<EntityStore> store) {
+        Ref<EntityStore> targetRef = archetypeChunk.getReferenceTo(index);
+        World world = store.getExternalData().getWorld();
+        if (targetRef == null || !targetRef.isValid() || world == null) {
+            return null;
+        }
+        return PlayerSpeciesData.getEffectiveSpeciesId(targetRef, store, world);
+    }
 }
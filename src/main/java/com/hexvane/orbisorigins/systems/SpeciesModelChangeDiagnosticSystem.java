@@ -11,9 +11,8 @@ import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
-import com.hexvane.orbisorigins.data.PlayerSpeciesData;
-import com.hexvane.orbisorigins.species.SpeciesData;
-import com.hexvane.orbisorigins.species.SpeciesRegistry;
+import com.hexvane.orbisorigins.data.SpeciesModelTag;
+import com.hexvane.orbisorigins.species.VariantView;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
@@ -30,11 +29,13 @@ public class SpeciesModelChangeDiagnosticSystem extends RefChangeSystem<EntitySt
     private static final Logger LOGGER = Logger.getLogger(SpeciesModelChangeDiagnosticSystem.class.getName());
     private static final String DIAGNOSE_PROP = "orbisorigins.diagnoseModelChanges";
 
-    /** Use only PlayerRef: ModelComponent.getComponentType() is null during plugin setup (like Player). We still observe ModelComponent via componentType(); callbacks are filtered to players with a species in checkAndLogMismatch. */
+    /** ModelComponent.getComponentType() is null during plugin setup (like Player), so it is not part of the query. We still observe ModelComponent via componentType(); the species model tag limits callbacks to players showing a species model. */
+    private final Query<EntityStore> query = Query.and(PlayerRef.getComponentType(), SpeciesModelTag.getComponentType());
+
     @Nullable
     @Override
     public Query<EntityStore> getQuery() {
-        return PlayerRef.getComponentType();
+        return query;
     }
 
     private static boolean isDiagnosticEnabled() {
@@ -84,25 +85,12 @@ public class SpeciesModelChangeDiagnosticSystem extends RefChangeSystem<EntitySt
         if (world == null) {
             return;
         }
-        if (!PlayerSpeciesData.hasChosenSpecies(ref, store, world)) {
-            return;
-        }
-        if (PlayerSpeciesData.getSpeciesModelHidden(ref, store)) {
-            return;
-        }
-
-        String speciesId = PlayerSpeciesData.getEffectiveSpeciesId(ref, store, world);
-        int variantIndex = PlayerSpeciesData.getEffectiveVariantIndex(ref, store, world);
-        if (speciesId == null) {
-            return;
-        }
-
-        SpeciesData species = SpeciesRegistry.getSpeciesOrDefault(speciesId);
-        if (species == null || species.usesPlayerModel()) {
+        VariantView view = SpeciesModelMaintenanceSystem.expectedView(ref, store);
+        if (view == null) {
             return;
         }
 
-        String expectedModelName = species.getModelName(variantIndex);
+        String expectedModelName = view.getModelAssetId();
         Model newModel = newComponent.getModel();
         String newModelAssetId = newModel.getModelAssetId();
         if (expectedModelName.equals(newModelAssetId)) {
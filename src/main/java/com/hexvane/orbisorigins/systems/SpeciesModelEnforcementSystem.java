@@ -0,0 +1,167 @@
+package com.hexvane.orbisorigins.systems;
+
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.RefChangeSystem;
+import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hexvane.orbisorigins.data.SpeciesComponent;
+import com.hexvane.orbisorigins.data.SpeciesModelTag;
+import com.hexvane.orbisorigins.species.ApplyPlan;
+import com.hexvane.orbisorigins.species.SpeciesData;
+import com.hexvane.orbisorigins.species.SpeciesRegistry;
+import com.hexvane.orbisorigins.species.VariantView;
+import com.hexvane.orbisorigins.util.AppliedModelCache;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Event-driven model enforcement: observes {@link ModelComponent} changes on players and, when a species
+ * player's model is replaced by something other than their species model, queues a re-apply on the world
+ * thread for the next tick. Replaces polling as the primary way overwritten models are restored;
+ * {@link SpeciesModelMaintenanceSystem} can then run rarely as a safety net, or not at all.
+ * <p>
+ * Loop protection: at most one re-apply is pending per player, and a player whose model is overwritten
+ * more than {@link #MAX_REAPPLIES_PER_WINDOW} times within {@link #WINDOW_MILLIS} is left alone until the
+ * window ends (something else is fighting over the model; see {@link SpeciesModelChangeDiagnosticSystem}).
+ */
+public class SpeciesModelEnforcementSystem extends RefChangeSystem<EntityStore, ModelComponent> {
+    private static final Logger LOGGER = Logger.getLogger(SpeciesModelEnforcementSystem.class.getName());
+    static final int MAX_REAPPLIES_PER_WINDOW = 5;
+    static final long WINDOW_MILLIS = 10_000L;
+
+    /** Per-player loop protection; only touched on the thread of the world the player is in. */
+    private static final class EnforcementState {
+        boolean pending;
+        long windowStart;
+        int reapplies;
+        boolean suppressionLogged;
+    }
+
+    private static final Map<UUID, EnforcementState> STATES = new ConcurrentHashMap<>();
+
+    /** ModelComponent.getComponentType() is null during plugin setup (see SpeciesModelChangeDiagnosticSystem); our own tag is registered by then. */
+    private final Query<EntityStore> query = Query.and(PlayerRef.getComponentType(), SpeciesModelTag.getComponentType());
+
+    @Nullable
+    @Override
+    public Query<EntityStore> getQuery() {
+        return query;
+    }
+
+    @Nonnull
+    @Override
+    public com.hypixel.hytale.component.ComponentType<EntityStore, ModelComponent> componentType() {
+        return ModelComponent.getComponentType();
+    }
+
+    @Override
+    public void onComponentAdded(
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull ModelComponent newComponent,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> commandBuffer
+    ) {
+        enforce(ref, newComponent, store);
+    }
+
+    @Override
+    public void onComponentSet(
+            @Nonnull Ref<EntityStore> ref,
+            @Nullable ModelComponent oldComponent,
+            @Nonnull ModelComponent newComponent,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> commandBuffer
+    ) {
+        enforce(ref, newComponent, store);
+    }
+
+    @Override
+    public void onComponentRemoved(
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull ModelComponent removedComponent,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> commandBuffer
+    ) {
+        // Removal also happens when the player leaves; the maintenance system restores a missing model
+        PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
+        if (playerRef != null) {
+            STATES.remove(playerRef.getUuid());
+        }
+    }
+
+    /**
+     * Forgets a player's loop protection when they leave a world or disconnect.
+     */
+    public static void forget(@Nonnull UUID uuid) {
+        STATES.remove(uuid);
+    }
+
+    private void enforce(@Nonnull Ref<EntityStore> ref, @Nonnull ModelComponent newComponent, @Nonnull Store<EntityStore> store) {
+        World world = store.getExternalData().getWorld();
+        if (world == null) {
+            return;
+        }
+        PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
+        if (playerRef == null) {
+            return;
+        }
+        UUID uuid = playerRef.getUuid();
+        VariantView view = SpeciesModelMaintenanceSystem.expectedView(ref, store);
+        if (view == null || AppliedModelCache.isCurrent(uuid, newComponent.getModel(), view)) {
+            return;
+        }
+
+        EnforcementState state = STATES.computeIfAbsent(uuid, k -> new EnforcementState());
+        if (state.pending) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now - state.windowStart >= WINDOW_MILLIS) {
+            state.windowStart = now;
+            state.reapplies = 0;
+            state.suppressionLogged = false;
+        }
+        if (state.reapplies >= MAX_REAPPLIES_PER_WINDOW) {
+            if (!state.suppressionLogged) {
+                state.suppressionLogged = true;
+                LOGGER.warning("Species model for player " + uuid + " was overwritten " + state.reapplies
+                        + " times within " + (WINDOW_MILLIS / 1000) + "s; pausing re-apply until the window ends");
+            }
+            return;
+        }
+        state.reapplies++;
+        state.pending = true;
+        SpeciesModelMaintenanceSystem.reportOverwrite(uuid);
+
+        // Component callbacks run mid-update; apply on the next world tick and re-check then,
+        // since the change may be part of a species switch whose selection is saved right after
+        world.execute(() -> {
+            state.pending = false;
+            if (!ref.isValid()) {
+                return;
+            }
+            VariantView expected = SpeciesModelMaintenanceSystem.expectedView(ref, store);
+            if (expected == null) {
+                return;
+            }
+            ModelComponent current = store.getComponent(ref, ModelComponent.getComponentType());
+            if (current != null && AppliedModelCache.isCurrent(uuid, current.getModel(), expected)) {
+                return;
+            }
+            SpeciesComponent speciesComponent = store.getComponent(ref, SpeciesComponent.getComponentType());
+            SpeciesData species = speciesComponent != null ? SpeciesRegistry.getSpeciesOrDefault(speciesComponent.getSpeciesId()) : null;
+            if (species != null) {
+                species.getApplyPlan().apply(ref, store, world, ApplyPlan.Selection.stored(ref, store, world), ApplyPlan.MODEL);
+            }
+        });
+    }
+}
@@ -11,29 +11,93 @@ import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
-import com.hexvane.orbisorigins.data.PlayerSpeciesData;
+import com.hexvane.orbisorigins.data.SpeciesComponent;
+import com.hexvane.orbisorigins.data.SpeciesModelTag;
+import com.hexvane.orbisorigins.species.ApplyPlan;
 import com.hexvane.orbisorigins.species.SpeciesData;
 import com.hexvane.orbisorigins.species.SpeciesRegistry;
-import com.hexvane.orbisorigins.util.ModelUtil;
-import com.hypixel.hytale.server.core.asset.type.model.config.Model;
+import com.hexvane.orbisorigins.species.VariantView;
+import com.hexvane.orbisorigins.util.AppliedModelCache;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * Ticking system that periodically checks and re-applies species models to ensure they persist.
- * Runs every tick but only applies models every 20 ticks to avoid performance issues.
+ * Each player has their own check interval: it starts at the configured minimum and doubles, up to the
+ * configured ceiling, every time a check finds the model still correct. As soon as an overwrite is seen (here
+ * or by {@link SpeciesModelEnforcementSystem}) it drops to the short re-check interval and doubles back up from
+ * there. Players are first checked at an offset hashed from their UUID, so checks stay spread across ticks.
  */
 public class SpeciesModelMaintenanceSystem extends EntityTickingSystem<EntityStore> {
     private static final Logger LOGGER = Logger.getLogger(SpeciesModelMaintenanceSystem.class.getName());
-    private static final Query<EntityStore> QUERY = PlayerRef.getComponentType();
-    private static final int CHECK_INTERVAL = 20; // Check every 20 ticks (1 second at 20 TPS)
-    
-    private int tickCounter = 0;
+    public static final int DEFAULT_CHECK_INTERVAL = 20; // 1 second at 20 TPS
+    public static final int DEFAULT_RECHECK_INTERVAL = 5;
+
+    /** Per-player schedule; only touched on the thread of the world the player is in, except {@link #overwritten}. */
+    private static final class CheckState {
+        int interval;
+        long nextCheck;
+        volatile boolean overwritten;
+
+        CheckState(int interval, long nextCheck) {
+            this.interval = interval;
+            this.nextCheck = nextCheck;
+        }
+    }
+
+    private static final Map<UUID, CheckState> STATES = new ConcurrentHashMap<>();
+    private static final LongAdder CHECKS = new LongAdder();
+    private static final LongAdder OVERWRITES = new LongAdder();
+
+    /** Only players showing a species model; everyone else is excluded by the archetype. */
+    private final Query<EntityStore> query = Query.and(PlayerRef.getComponentType(), SpeciesModelTag.getComponentType());
+    private final int minInterval;
+    private final int maxInterval;
+    private final int recheckInterval;
+    /** Tick counter per store (each world ticks its own store on its own thread); dropped by {@link #forgetWorld}. */
+    private final Map<Store<EntityStore>, long[]> currentTick = new ConcurrentHashMap<>();
+
+    public SpeciesModelMaintenanceSystem() {
+        this(DEFAULT_CHECK_INTERVAL, DEFAULT_CHECK_INTERVAL);
+    }
+
+    /**
+     * @param minInterval ticks until a player's first check; values below 1 are treated as 1
+     * @param maxInterval ceiling the interval backs off to while the model stays correct
+     */
+    public SpeciesModelMaintenanceSystem(int minInterval, int maxInterval) {
+        this(minInterval, maxInterval, DEFAULT_RECHECK_INTERVAL);
+    }
+
+    /**
+     * @param minInterval ticks until a player's first check; values below 1 are treated as 1
+     * @param maxInterval ceiling the interval backs off to while the model stays correct
+     * @param recheckInterval ticks until the check after an overwrite, from which the interval doubles again
+     */
+    public SpeciesModelMaintenanceSystem(int minInterval, int maxInterval, int recheckInterval) {
+        this.minInterval = Math.max(1, minInterval);
+        this.maxInterval = Math.max(this.minInterval, maxInterval);
+        this.recheckInterval = Math.max(1, Math.min(recheckInterval, this.maxInterval));
+    }
 
     @Nonnull
     @Override
     public Query<EntityStore> getQuery() {
-        return QUERY;
+        return query;
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, @Nonnull Store<EntityStore> store) {
+        // Advance this store's tick counter once per tick, then visit the entities
+        currentTick.computeIfAbsent(store, s -> new long[1])[0]++;
+        super.tick(dt, systemIndex, store);
     }
 
     @Override
@@ -44,103 +108,146 @@ public class SpeciesModelMaintenanceSystem extends EntityTickingSystem<EntitySto
             @Nonnull Store<EntityStore> store,
             @Nonnull CommandBuffer<EntityStore> commandBuffer
     ) {
-        // Only check every N ticks to avoid performance issues
-        tickCounter++;
-        if (tickCounter < CHECK_INTERVAL) {
+        long[] tick = currentTick.get(store);
+        PlayerRef playerRef = archetypeChunk.getComponent(index, PlayerRef.getComponentType());
+        if (tick == null || playerRef == null) {
+            return;
+        }
+        long now = tick[0];
+        UUID uuid = playerRef.getUuid();
+        CheckState state = STATES.computeIfAbsent(uuid,
+                k -> new CheckState(minInterval, now + Math.floorMod(k.hashCode(), minInterval)));
+        if (state.overwritten) {
+            // Enforcement already restored the model; just check again soon
+            state.overwritten = false;
+            state.interval = recheckInterval;
+            state.nextCheck = now + recheckInterval;
+            return;
+        }
+        if (now < state.nextCheck) {
             return;
         }
-        tickCounter = 0;
 
+        boolean drifted = check(archetypeChunk, index, store);
+        CHECKS.increment();
+        if (drifted) {
+            OVERWRITES.increment();
+            state.interval = recheckInterval;
+        } else {
+            state.interval = (int) Math.min((long) state.interval * 2, maxInterval);
+        }
+        state.nextCheck = now + state.interval;
+    }
+
+    /**
+     * Checks one player's model and queues a re-apply if it drifted.
+     * @return true if the model was missing or overwritten
+     */
+    private boolean check(@Nonnull ArchetypeChunk<EntityStore> archetypeChunk, int index, @Nonnull Store<EntityStore> store) {
         Player playerComponent = archetypeChunk.getComponent(index, Player.getComponentType());
         if (playerComponent == null) {
-            return;
+            return false;
         }
 
         World world = store.getExternalData().getWorld();
         if (world == null) {
-            return;
+            return false;
         }
 
         // Get the entity ref
         var ref = archetypeChunk.getReferenceTo(index);
         if (ref == null || !ref.isValid()) {
-            return;
+            return false;
         }
 
-        // Check if player has chosen a species
-        if (!PlayerSpeciesData.hasChosenSpecies(ref, store, world)) {
-            return;
+        SpeciesComponent speciesComponent = archetypeChunk.getComponent(index, SpeciesComponent.getComponentType());
+        VariantView view = expectedView(ref, store);
+        if (speciesComponent == null || view == null) {
+            return false;
         }
 
-        // Skip re-apply if player has chosen to hide their species model
-        if (PlayerSpeciesData.getSpeciesModelHidden(ref, store)) {
-            return;
+        // Reapply if the model component is missing or no longer the model we applied
+        PlayerRef playerRef = archetypeChunk.getComponent(index, PlayerRef.getComponentType());
+        ModelComponent modelComponent = store.getComponent(ref, ModelComponent.getComponentType());
+        if (modelComponent != null && AppliedModelCache.isCurrent(playerRef.getUuid(), modelComponent.getModel(), view)) {
+            return false;
         }
+        String speciesId = speciesComponent.getSpeciesId();
+        world.execute(() -> {
+            if (ref.isValid()) {
+                SpeciesData speciesToApply = SpeciesRegistry.getSpeciesOrDefault(speciesId);
+                if (speciesToApply != null) {
+                    speciesToApply.getApplyPlan().apply(ref, store, world, ApplyPlan.Selection.stored(ref, store, world), ApplyPlan.MODEL);
+                }
+            }
+        });
+        return true;
+    }
 
-        // Use effective species so that removed species fall back to default without breaking
-        String speciesId = PlayerSpeciesData.getEffectiveSpeciesId(ref, store, world);
-        int variantIndex = PlayerSpeciesData.getEffectiveVariantIndex(ref, store, world);
+    /**
+     * Drops the tick counter of a removed world's store.
+     */
+    public void forgetWorld(@Nonnull World world) {
+        currentTick.keySet().removeIf(store -> store.getExternalData().getWorld() == world);
+    }
 
-        if (speciesId == null) {
-            return;
+    /**
+     * Drops the player's check interval to the re-check interval (their model was just overwritten).
+     */
+    static void reportOverwrite(@Nonnull UUID uuid) {
+        CheckState state = STATES.get(uuid);
+        if (state != null) {
+            state.overwritten = true;
         }
+    }
 
-        SpeciesData species = SpeciesRegistry.getSpeciesOrDefault(speciesId);
-        if (species == null) {
-            return;
-        }
+    /**
+     * Forgets a player's schedule when they leave a world or disconnect; they start at the minimum interval again.
+     */
+    public static void forget(@Nonnull UUID uuid) {
+        STATES.remove(uuid);
+    }
 
-        // Skip orbian (no model to maintain)
-        if (species.usesPlayerModel()) {
-            return;
+    /**
+     * Current check interval (ticks) -> number of players on it.
+     */
+    @Nonnull
+    public static SortedMap<Integer, Integer> getIntervalDistribution() {
+        SortedMap<Integer, Integer> distribution = new TreeMap<>();
+        for (CheckState state : STATES.values()) {
+            distribution.merge(state.interval, 1, Integer::sum);
         }
+        return distribution;
+    }
 
-        // Get expected model name and scale
-        String expectedModelName = species.getModelName(variantIndex);
-        float expectedScale = species.getModelScale(variantIndex);
-        
-        // Check if model component exists and matches expected model
-        ModelComponent modelComponent = store.getComponent(ref, ModelComponent.getComponentType());
-        boolean needsReapply = false;
-        
-        if (modelComponent == null) {
-            // Model component is missing
-            needsReapply = true;
-        } else {
-            // Check if the current model matches the expected model and scale
-            Model currentModel = modelComponent.getModel();
-            String currentModelAssetId = currentModel.getModelAssetId();
-            if (!expectedModelName.equals(currentModelAssetId)) {
-                // Model doesn't match - it was reset
-                needsReapply = true;
-            } else if (Math.abs(currentModel.getScale() - expectedScale) > 1e-5f) {
-                // Scale differs (e.g. config changed)
-                needsReapply = true;
-            }
+    /** Checks run since startup. */
+    public static long getCheckCount() {
+        return CHECKS.sum();
+    }
+
+    /** Checks that found a missing or overwritten model. */
+    public static long getOverwriteCount() {
+        return OVERWRITES.sum();
+    }
+
+    /**
+     * The variant whose model the player should be wearing, or null when there is nothing to enforce
+     * (no species chosen, species model hidden, or a species that uses the player model).
+     */
+    @Nullable
+    static VariantView expectedView(@Nonnull Ref<EntityStore> ref, @Nonnull Store<EntityStore> store) {
+        // The tag is only present while the species model should be shown
+        if (store.getComponent(ref, SpeciesModelTag.getComponentType()) == null) {
+            return null;
         }
-        
-        if (needsReapply) {
-            // Reapply the model
-            final String finalSpeciesId = speciesId;
-            final int finalVariantIndex = variantIndex;
-            java.util.Map<String, String> attachmentSelections = PlayerSpeciesData.getAttachmentSelections(ref, store, world);
-            String textureSelection = PlayerSpeciesData.getTextureSelection(ref, store, world);
-            world.execute(() -> {
-                if (ref.isValid()) {
-                    SpeciesData speciesToApply = SpeciesRegistry.getSpeciesOrDefault(finalSpeciesId);
-                    if (speciesToApply != null && !speciesToApply.usesPlayerModel()) {
-                        if (speciesToApply.isVersion2()) {
-                            ModelUtil.applyModelToPlayerV2(ref, store, speciesToApply, finalVariantIndex, textureSelection, attachmentSelections);
-                        } else {
-                            String modelName = speciesToApply.getModelName(finalVariantIndex);
-                            float eyeHeightModifier = speciesToApply.getEyeHeightModifier(modelName);
-                            float hitboxHeightModifier = speciesToApply.getHitboxHeightModifier(modelName);
-                            float scale = speciesToApply.getModelScale(finalVariantIndex);
-                            ModelUtil.applyModelToPlayer(ref, store, modelName, eyeHeightModifier, hitboxHeightModifier, attachmentSelections, scale);
-                        }
-                    }
-                }
-            });
+        SpeciesComponent speciesComponent = store.getComponent(ref, SpeciesComponent.getComponentType());
+        if (speciesComponent == null) {
+            return null;
+        }
+        SpeciesData species = SpeciesRegistry.getSpeciesOrDefault(speciesComponent.getSpeciesId());
+        if (species == null || species.usesPlayerModel()) {
+            return null;
         }
+        return species.getVariantView(speciesComponent.getVariantIndex());
     }
 }
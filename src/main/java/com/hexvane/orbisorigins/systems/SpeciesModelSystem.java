@@ -11,27 +11,53 @@ import com.hypixel.hytale.component.dependency.SystemDependency;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.RefSystem;
 import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.modules.entity.player.PlayerSystems;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
-import com.hexvane.orbisorigins.ability.AbilityApiBridge;
+import com.hexvane.orbisorigins.data.AppliedSpeciesComponent;
 import com.hexvane.orbisorigins.data.PlayerSpeciesData;
+import com.hexvane.orbisorigins.data.SleepingRaiseComponent;
+import com.hexvane.orbisorigins.species.ApplyPlan;
 import com.hexvane.orbisorigins.species.SpeciesData;
 import com.hexvane.orbisorigins.species.SpeciesRegistry;
-import com.hexvane.orbisorigins.util.ModelUtil;
-import com.hexvane.orbisorigins.util.SpeciesStatUtil;
+import com.hexvane.orbisorigins.util.AppliedModelCache;
+import com.hexvane.orbisorigins.util.DelayedTaskScheduler;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * System that re-applies species model and stats when a player spawns.
  * Runs after PlayerSpawnedSystem to ensure all spawn initialization is complete.
+ * Steps the entity already carries (per its saved {@link AppliedSpeciesComponent}) are skipped, so a relog
+ * or world transfer with an unchanged species does almost no work.
  */
 public class SpeciesModelSystem extends RefSystem<EntityStore> {
     private static final Logger LOGGER = Logger.getLogger(SpeciesModelSystem.class.getName());
     private static final Query<EntityStore> QUERY = PlayerRef.getComponentType();
+    private static final int MODEL_APPLY_DELAY_TICKS = 5;
+
+    /** Spawn model applies not yet run, so they can be cancelled if the player leaves first. */
+    private final Map<UUID, DelayedTaskScheduler.TaskHandle> pendingApplies = new ConcurrentHashMap<>();
+    @Nullable
+    private final SpeciesAdmissionSystem admission;
+
+    public SpeciesModelSystem() {
+        this(null);
+    }
+
+    /**
+     * @param admission queue that spreads species application on join across ticks; null applies immediately
+     */
+    public SpeciesModelSystem(@Nullable SpeciesAdmissionSystem admission) {
+        this.admission = admission;
+    }
 
     @Nonnull
     @Override
@@ -72,14 +98,46 @@ public class SpeciesModelSystem extends RefSystem<EntityStore> {
             return;
         }
 
+        // Tag the player for the species-only queries (runtime components are not saved with the player)
+        PlayerSpeciesData.syncSpeciesComponents(ref, store, world, commandBuffer);
+
         // Check if player has already chosen a species
         if (!PlayerSpeciesData.hasChosenSpecies(ref, store, world)) {
             return;
         }
 
+        PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
+        if (playerRef == null) {
+            return;
+        }
+        // Loaded players carry the fingerprints saved with them; new ones start with nothing applied
+        AppliedSpeciesComponent applied = store.getComponent(ref, AppliedSpeciesComponent.getComponentType());
+        if (applied == null) {
+            applied = new AppliedSpeciesComponent();
+            commandBuffer.putComponent(ref, AppliedSpeciesComponent.getComponentType(), applied);
+        }
+        AppliedSpeciesComponent appliedState = applied;
+        if (admission != null) {
+            // Spread the work of a login storm over several ticks
+            admission.enqueue(world, playerRef.getUuid(), ref, () -> applySpecies(ref, store, world, playerRef, appliedState));
+        } else {
+            applySpecies(ref, store, world, playerRef, appliedState);
+        }
+    }
+
+    /**
+     * Applies the player's species stats and abilities and schedules their model, skipping what {@code applied}
+     * shows is already in place.
+     */
+    private void applySpecies(
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull World world,
+            @Nonnull PlayerRef playerRef,
+            @Nonnull AppliedSpeciesComponent applied
+    ) {
         // Use effective species so that removed species fall back to default without breaking
         String effectiveSpeciesId = PlayerSpeciesData.getEffectiveSpeciesId(ref, store, world);
-        int variantIndex = PlayerSpeciesData.getEffectiveVariantIndex(ref, store, world);
 
         if (effectiveSpeciesId == null) {
             return;
@@ -95,65 +153,41 @@ public class SpeciesModelSystem extends RefSystem<EntityStore> {
             LOGGER.info("SpeciesModelSystem: Player's species '" + storedId + "' no longer available, using default: " + effectiveSpeciesId);
         }
 
-        // Apply stats immediately
-        SpeciesStatUtil.applySpeciesStats(ref, store, species);
-
-        PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
-        if (playerRef != null && AbilityApiBridge.isAvailable() && !species.getAbilities().isEmpty()) {
-            AbilityApiBridge.applySpeciesAbilities(playerRef, ref, store, world, species);
-        }
+        // Apply stats and abilities immediately (skipped where the loaded entity already carries them)
+        species.getApplyPlan().apply(ref, store, world, ApplyPlan.Selection.stored(ref, store, world), applied,
+                ApplyPlan.STATS | ApplyPlan.ABILITIES);
 
         // Defer model application - the maintenance system will handle ensuring it's correct
-        // We still apply it here with a delay, but the maintenance system is the real safety net
-        final String finalSpeciesId = effectiveSpeciesId;
-        final int finalVariantIndex = variantIndex;
-        if (world != null) {
-            // Apply after 5 ticks - maintenance system will catch it if something resets it
-            scheduleDelayedModelApply(world, ref, store, finalSpeciesId, finalVariantIndex, 5);
-        }
+        // Apply after 5 ticks - maintenance system will catch it if something resets it
+        scheduleDelayedModelApply(world, ref, store, playerRef.getUuid(), effectiveSpeciesId);
     }
-    
-    private void scheduleDelayedModelApply(World world, Ref<EntityStore> ref, Store<EntityStore> store, 
-                                          String speciesId, int variantIndex, int ticksRemaining) {
-        if (ticksRemaining <= 0) {
-            if (ref.isValid()) {
-                applyModel(ref, store, speciesId, variantIndex);
+
+    private void scheduleDelayedModelApply(@Nonnull World world, @Nonnull Ref<EntityStore> ref, @Nonnull Store<EntityStore> store,
+                                           @Nonnull UUID uuid, @Nonnull String speciesId) {
+        DelayedTaskScheduler.TaskHandle previous = pendingApplies.put(uuid, DelayedTaskScheduler.schedule(world, MODEL_APPLY_DELAY_TICKS, () -> {
+            pendingApplies.remove(uuid);
+            if (!ref.isValid()) {
+                return;
             }
-        } else {
-            world.execute(() -> {
-                scheduleDelayedModelApply(world, ref, store, speciesId, variantIndex, ticksRemaining - 1);
-            });
+            if (admission != null) {
+                // The model build is the costliest part of joining; charge it to the admission budget too
+                admission.enqueueFollowUp(world, uuid, ref, () -> applyModel(ref, store, world, speciesId));
+            } else {
+                applyModel(ref, store, world, speciesId);
+            }
+        }));
+        if (previous != null) {
+            previous.cancel();
         }
     }
     
-    private void applyModel(@Nonnull Ref<EntityStore> ref, @Nonnull Store<EntityStore> store, @Nonnull String speciesId, int variantIndex) {
+    private void applyModel(@Nonnull Ref<EntityStore> ref, @Nonnull Store<EntityStore> store, @Nonnull World world, @Nonnull String speciesId) {
         SpeciesData species = SpeciesRegistry.getSpeciesOrDefault(speciesId);
         if (species == null) {
             return;
         }
-        
-        World world = store.getExternalData().getWorld();
-        if (world == null) {
-            return;
-        }
-        
-        // Apply model (if not orbian)
-        if (!species.usesPlayerModel()) {
-            if (species.isVersion2()) {
-                java.util.Map<String, String> attachmentSelections = PlayerSpeciesData.getAttachmentSelections(ref, store, world);
-                String textureSelection = PlayerSpeciesData.getTextureSelection(ref, store, world);
-                ModelUtil.applyModelToPlayerV2(ref, store, species, variantIndex, textureSelection, attachmentSelections);
-            } else {
-                String modelName = species.getModelName(variantIndex);
-                float eyeHeightModifier = species.getEyeHeightModifier(modelName);
-                float hitboxHeightModifier = species.getHitboxHeightModifier(modelName);
-                java.util.Map<String, String> attachmentSelections = PlayerSpeciesData.getAttachmentSelections(ref, store, world);
-                float scale = species.getModelScale(variantIndex);
-                ModelUtil.applyModelToPlayer(ref, store, modelName, eyeHeightModifier, hitboxHeightModifier, attachmentSelections, scale);
-            }
-        } else {
-            ModelUtil.resetToPlayerSkin(ref, store);
-        }
+        // Species model, or the player skin for player-model species and hidden models
+        species.getApplyPlan().apply(ref, store, world, ApplyPlan.Selection.stored(ref, store, world), ApplyPlan.MODEL);
     }
 
     @Override
@@ -163,6 +197,25 @@ public class SpeciesModelSystem extends RefSystem<EntityStore> {
             @Nonnull Store<EntityStore> store,
             @Nonnull CommandBuffer<EntityStore> commandBuffer
     ) {
-        // No cleanup needed
+        // Don't let a bed raise be saved with the player's position
+        SleepingRaiseComponent sleepingRaise = store.getComponent(ref, SleepingRaiseComponent.getComponentType());
+        TransformComponent transform = store.getComponent(ref, TransformComponent.getComponentType());
+        if (sleepingRaise != null && transform != null) {
+            SpeciesSleepingRaiseSystem.lower(transform, sleepingRaise);
+        }
+
+        PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
+        if (playerRef != null) {
+            if (admission != null) {
+                admission.cancel(playerRef.getUuid());
+            }
+            DelayedTaskScheduler.TaskHandle pending = pendingApplies.remove(playerRef.getUuid());
+            if (pending != null) {
+                pending.cancel();
+            }
+            AppliedModelCache.clear(playerRef.getUuid());
+            SpeciesModelMaintenanceSystem.forget(playerRef.getUuid());
+            SpeciesModelEnforcementSystem.forget(playerRef.getUuid());
+        }
     }
 }
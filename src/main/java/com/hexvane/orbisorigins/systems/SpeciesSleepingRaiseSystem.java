@@ -2,135 +2,248 @@ package com.hexvane.orbisorigins.systems;
 
 import com.hypixel.hytale.builtin.mounts.BlockMountComponent;
 import com.hypixel.hytale.builtin.mounts.MountedComponent;
-import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.ComponentType;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
-import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.component.system.RefChangeSystem;
 import com.hypixel.hytale.math.vector.Rotation3f;
 import org.joml.Vector3d;
 import org.joml.Vector3f;
 import com.hypixel.hytale.protocol.BlockMount;
+import com.hypixel.hytale.protocol.BlockMountType;
 import com.hypixel.hytale.protocol.MountController;
 import com.hypixel.hytale.protocol.MountedUpdate;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.mountpoints.BlockMountPoint;
-import com.hypixel.hytale.server.core.entity.UUIDComponent;
-import com.hypixel.hytale.server.core.entity.movement.MovementStatesComponent;
 import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.modules.entity.tracker.EntityTrackerSystems;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
-import com.hexvane.orbisorigins.data.PlayerSpeciesData;
+import com.hexvane.orbisorigins.data.SleepingRaiseComponent;
+import com.hexvane.orbisorigins.data.SpeciesComponent;
 import com.hexvane.orbisorigins.species.SpeciesData;
 import com.hexvane.orbisorigins.species.SpeciesRegistry;
-import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
- * Raises the player's world position when they enter the sleeping state (and lowers it when they wake)
+ * Raises the player's world position when they get into bed (and lowers it when they get out)
  * by the amount configured in their species (sleepingRaiseHeight / per-variant SleepingRaiseHeight).
  * Prevents species whose models clip into the ground when lying down from suffocating.
  *
+ * <p>Only reacts to {@link MountedComponent} changes, i.e. mounting and leaving a bed block mount, so
+ * players who are not getting in or out of bed cost nothing per tick.
+ *
  * <p>The client draws the sleeping player at the position sent in the MountedUpdate's BlockMount,
  * not the entity transform. So we also send a corrected MountedUpdate with position.y raised to
- * all viewers so the model renders at the raised height. This system runs in the default group
- * (not QUEUE_UPDATE_GROUP) to avoid scheduler deadlocks during plugin registration.
+ * all viewers so the model renders at the raised height. Raises are applied in one batch on the tick
+ * after the mount, so the corrected updates follow the server's own mount updates and repeated mounts
+ * in the same tick raise (and send) once.
  */
-public class SpeciesSleepingRaiseSystem extends EntityTickingSystem<EntityStore> {
-    private static final Query<EntityStore> QUERY = PlayerRef.getComponentType();
+public class SpeciesSleepingRaiseSystem extends RefChangeSystem<EntityStore, MountedComponent> {
+    /** Only players with a species; no one else can have a sleeping raise. MountedComponent is observed via componentType(). */
+    private final Query<EntityStore> query = Query.and(PlayerRef.getComponentType(), SpeciesComponent.getComponentType());
 
-    private final Map<UUID, Boolean> previousSleeping = new HashMap<>();
-    private final Map<UUID, Double> amountRaised = new HashMap<>();
+    /** Players who got into bed this tick, per world; only touched on that world's thread, removed when flushed. */
+    private final Map<World, Set<Ref<EntityStore>>> pendingRaises = new ConcurrentHashMap<>();
 
-    @Nonnull
+    @Nullable
     @Override
     public Query<EntityStore> getQuery() {
-        return QUERY;
+        return query;
     }
 
+    @Nonnull
     @Override
-    public void tick(
-            float dt,
-            int index,
-            @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
+    public ComponentType<EntityStore, MountedComponent> componentType() {
+        return MountedComponent.getComponentType();
+    }
+
+    @Override
+    public void onComponentAdded(
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull MountedComponent newComponent,
             @Nonnull Store<EntityStore> store,
             @Nonnull CommandBuffer<EntityStore> commandBuffer
     ) {
-        Ref<EntityStore> ref = archetypeChunk.getReferenceTo(index);
-        if (ref == null || !ref.isValid()) {
-            return;
+        if (isBedMount(newComponent)) {
+            scheduleRaise(ref, store);
         }
+    }
 
-        UUIDComponent uuidComponent = store.getComponent(ref, UUIDComponent.getComponentType());
-        TransformComponent transformComponent = store.getComponent(ref, TransformComponent.getComponentType());
-        MovementStatesComponent movementStatesComponent = store.getComponent(ref, MovementStatesComponent.getComponentType());
-        if (uuidComponent == null || transformComponent == null || movementStatesComponent == null) {
+    @Override
+    public void onComponentSet(
+            @Nonnull Ref<EntityStore> ref,
+            @Nullable MountedComponent oldComponent,
+            @Nonnull MountedComponent newComponent,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> commandBuffer
+    ) {
+        if (isBedMount(newComponent)) {
+            scheduleRaise(ref, store);
+        } else {
+            lower(ref, store);
+        }
+    }
+
+    @Override
+    public void onComponentRemoved(
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull MountedComponent removedComponent,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> commandBuffer
+    ) {
+        lower(ref, store);
+    }
+
+    private static boolean isBedMount(@Nonnull MountedComponent mounted) {
+        if (mounted.getControllerType() != MountController.BlockMount) {
+            return false;
+        }
+        Ref<ChunkStore> blockRef = mounted.getMountedToBlock();
+        if (blockRef == null || !blockRef.isValid()) {
+            return false;
+        }
+        BlockMountComponent blockMountComponent = blockRef.getStore().getComponent(blockRef, BlockMountComponent.getComponentType());
+        return blockMountComponent != null && blockMountComponent.getType() == BlockMountType.Bed;
+    }
+
+    private void scheduleRaise(@Nonnull Ref<EntityStore> ref, @Nonnull Store<EntityStore> store) {
+        World world = store.getExternalData().getWorld();
+        if (world == null) {
             return;
         }
+        // One flush per world tick however many players get into bed; the set drops repeated mounts
+        Set<Ref<EntityStore>> pending = pendingRaises.get(world);
+        if (pending == null) {
+            pending = new LinkedHashSet<>();
+            pendingRaises.put(world, pending);
+            world.execute(() -> flushRaises(world, store));
+        }
+        pending.add(ref);
+    }
 
-        UUID uuid = uuidComponent.getUuid();
-        boolean nowSleeping = movementStatesComponent.getMovementStates().sleeping;
-        Boolean wasSleeping = previousSleeping.get(uuid);
-
-        if (nowSleeping && (wasSleeping == null || !wasSleeping)) {
-            // Transition to sleeping
-            World world = store.getExternalData().getWorld();
-            if (world != null && PlayerSpeciesData.hasChosenSpecies(ref, store, world)) {
-                String speciesId = PlayerSpeciesData.getEffectiveSpeciesId(ref, store, world);
-                int variantIndex = PlayerSpeciesData.getEffectiveVariantIndex(ref, store, world);
-                SpeciesData species = SpeciesRegistry.getSpeciesOrDefault(speciesId);
-                if (species != null) {
-                    float raise = species.getSleepingRaiseHeight(variantIndex);
-                    if (raise > 0f) {
-                        transformComponent.getPosition().y += raise;
-                        amountRaised.put(uuid, (double) raise);
-                        queueRaisedMountedUpdate(ref, store, raise);
-                    }
-                }
+    /**
+     * Raises every player queued this tick and sends each one's corrected update to its viewers.
+     */
+    private void flushRaises(@Nonnull World world, @Nonnull Store<EntityStore> store) {
+        Set<Ref<EntityStore>> pending = pendingRaises.remove(world);
+        if (pending == null) {
+            return;
+        }
+        for (Ref<EntityStore> ref : pending) {
+            MountedUpdate update = raise(ref, store);
+            if (update == null) {
+                continue;
             }
-        } else if (!nowSleeping && Boolean.TRUE.equals(wasSleeping)) {
-            // Transition to not sleeping
-            Double raised = amountRaised.remove(uuid);
-            if (raised != null && raised != 0) {
-                transformComponent.getPosition().y -= raised;
+            EntityTrackerSystems.Visible visible = store.getComponent(ref, EntityTrackerSystems.Visible.getComponentType());
+            if (visible == null || visible.visibleTo.isEmpty()) {
+                continue;
+            }
+            for (EntityTrackerSystems.EntityViewer viewer : visible.visibleTo.values()) {
+                viewer.queueUpdate(ref, update);
             }
         }
-
-        previousSleeping.put(uuid, nowSleeping);
     }
 
     /**
-     * Sends a MountedUpdate with the bed position raised by {@code raise} to all viewers,
-     * so the client draws the sleeping model at the raised height.
+     * Raises the player if they are still in bed.
+     * @return the corrected mount update to send to viewers, or null if nothing was raised
      */
-    private void queueRaisedMountedUpdate(@Nonnull Ref<EntityStore> ref, @Nonnull Store<EntityStore> store, float raise) {
+    @Nullable
+    private static MountedUpdate raise(@Nonnull Ref<EntityStore> ref, @Nonnull Store<EntityStore> store) {
+        if (!ref.isValid()) {
+            return null;
+        }
+        // Still in bed, and not already raised (a set can repeat the same mount)
         MountedComponent mounted = store.getComponent(ref, MountedComponent.getComponentType());
-        if (mounted == null || mounted.getControllerType() != MountController.BlockMount) {
-            return;
+        SleepingRaiseComponent state = store.getComponent(ref, SleepingRaiseComponent.getComponentType());
+        if (mounted == null || !isBedMount(mounted) || (state != null && state.isSleeping())) {
+            return null;
         }
+        SpeciesComponent speciesComponent = store.getComponent(ref, SpeciesComponent.getComponentType());
+        TransformComponent transformComponent = store.getComponent(ref, TransformComponent.getComponentType());
+        if (speciesComponent == null || transformComponent == null) {
+            return null;
+        }
+        SpeciesData species = SpeciesRegistry.getSpeciesOrDefault(speciesComponent.getSpeciesId());
+        if (species == null) {
+            return null;
+        }
+        float raise = species.getVariantView(speciesComponent.getVariantIndex()).getSleepingRaiseHeight();
+        if (raise <= 0f) {
+            return null;
+        }
+
+        if (state == null) {
+            // Attached on the player's first bed and then only mutated
+            state = new SleepingRaiseComponent();
+            store.putComponent(ref, SleepingRaiseComponent.getComponentType(), state);
+        }
+        transformComponent.getPosition().y += raise;
+        state.setSleeping(true);
+        state.setRaised(raise);
+        return raisedMountedUpdate(ref, mounted, raise);
+    }
+
+    private static void lower(@Nonnull Ref<EntityStore> ref, @Nonnull Store<EntityStore> store) {
+        SleepingRaiseComponent state = store.getComponent(ref, SleepingRaiseComponent.getComponentType());
+        TransformComponent transformComponent = store.getComponent(ref, TransformComponent.getComponentType());
+        if (state != null && transformComponent != null) {
+            lower(transformComponent, state);
+        }
+    }
+
+    /**
+     * Undoes the raise recorded in {@code state}, e.g. on leaving the bed or when the player leaves the
+     * world while in bed (so the raised position is not saved).
+     */
+    public static void lower(@Nonnull TransformComponent transformComponent, @Nonnull SleepingRaiseComponent state) {
+        float raised = state.getRaised();
+        if (raised != 0f) {
+            transformComponent.getPosition().y -= raised;
+            state.setRaised(0f);
+        }
+        state.setSleeping(false);
+    }
+
+    /**
+     * Builds the MountedUpdate with the bed position raised by {@code raise}, so the client draws the
+     * sleeping model at the raised height. The update is identical for every viewer; null if the seat
+     * cannot be resolved.
+     */
+    @Nullable
+    private static MountedUpdate raisedMountedUpdate(
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull MountedComponent mounted,
+            float raise
+    ) {
         Ref<ChunkStore> blockRef = mounted.getMountedToBlock();
         if (blockRef == null || !blockRef.isValid()) {
-            return;
+            return null;
         }
         Store<ChunkStore> chunkStore = blockRef.getStore();
         BlockMountComponent blockMountComponent = chunkStore.getComponent(blockRef, BlockMountComponent.getComponentType());
         if (blockMountComponent == null) {
-            return;
+            return null;
         }
         BlockMountPoint occupiedSeat = blockMountComponent.getSeatBlockBySeatedEntity(ref);
         if (occupiedSeat == null) {
-            return;
+            return null;
         }
         Vector3d position = occupiedSeat.computeWorldSpacePosition(blockMountComponent.getBlockPos());
         Rotation3f rotationEuler = occupiedSeat.computeRotationEuler(blockMountComponent.getExpectedRotation());
         BlockType blockType = blockMountComponent.getExpectedBlockType();
         int blockTypeId = BlockType.getAssetMap().getIndex(blockType.getId());
+        Rotation3f attachmentOffset = mounted.getAttachmentOffset();
 
         Vector3f raisedPosition = new Vector3f((float) position.x, (float) (position.y + raise), (float) position.z);
         Vector3f orientation = new Vector3f(rotationEuler.x, rotationEuler.y, rotationEuler.z);
@@ -140,16 +253,7 @@ public class SpeciesSleepingRaiseSystem extends EntityTickingSystem<EntityStore>
                 orientation,
                 blockTypeId
         );
-        Rotation3f attachmentOffset = mounted.getAttachmentOffset();
         Vector3f netOffset = new Vector3f(attachmentOffset.x, attachmentOffset.y, attachmentOffset.z);
-        MountedUpdate mountedUpdate = new MountedUpdate(0, netOffset, MountController.BlockMount, blockMount);
-
-        EntityTrackerSystems.Visible visible = store.getComponent(ref, EntityTrackerSystems.Visible.getComponentType());
-        if (visible == null || visible.visibleTo.isEmpty()) {
-            return;
-        }
-        for (EntityTrackerSystems.EntityViewer viewer : visible.visibleTo.values()) {
-            viewer.queueUpdate(ref, mountedUpdate);
-        }
+        return new MountedUpdate(0, netOffset, MountController.BlockMount, blockMount);
     }
 }
@@ -0,0 +1,96 @@
+package com.hexvane.orbisorigins.util;
+
+import com.hypixel.hytale.server.core.asset.type.model.config.Model;
+import com.hypixel.hytale.server.core.asset.type.model.config.ModelAttachment;
+import com.hexvane.orbisorigins.species.VariantView;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The exact species {@link Model} instance last applied to each player, with the variant it was built for
+ * and a fingerprint of its appearance. Drift checks compare the player's current model by reference first;
+ * only when the instance differs is the fingerprint computed, so texture and attachment changes are caught
+ * while an equivalent copy of the model is accepted.
+ */
+public final class AppliedModelCache {
+    private static final Map<UUID, Applied> APPLIED = new ConcurrentHashMap<>();
+
+    private AppliedModelCache() {}
+
+    private static final class Applied {
+        /** Identifies species instance and variant index (views are per species instance and index). */
+        final VariantView view;
+        /** Volatile: adopted by whichever world thread last saw an equivalent copy. */
+        volatile Model model;
+        final long fingerprint;
+
+        Applied(@Nonnull VariantView view, @Nonnull Model model, long fingerprint) {
+            this.view = view;
+            this.model = model;
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * Records the model about to be applied to a player for {@code view}.
+     */
+    public static void record(@Nonnull UUID playerId, @Nonnull VariantView view, @Nonnull Model model) {
+        APPLIED.put(playerId, new Applied(view, model, fingerprint(model)));
+    }
+
+    /**
+     * Forgets the player's applied model (player model restored, or player left).
+     */
+    public static void clear(@Nonnull UUID playerId) {
+        APPLIED.remove(playerId);
+    }
+
+    /**
+     * Returns true if {@code current} is still the model applied for {@code view}.
+     * Falls back to {@link ModelUtil#matchesVariant} (asset id and scale) when nothing was recorded for this
+     * variant, e.g. the model was applied before a reload replaced the species.
+     */
+    public static boolean isCurrent(@Nonnull UUID playerId, @Nullable Model current, @Nonnull VariantView view) {
+        if (current == null) {
+            return false;
+        }
+        Applied applied = APPLIED.get(playerId);
+        if (applied == null || applied.view != view) {
+            return ModelUtil.matchesVariant(current, view);
+        }
+        if (applied.model == current) {
+            return true;
+        }
+        if (fingerprint(current) == applied.fingerprint) {
+            // Equivalent copy (e.g. re-sent by another system); adopt it so the next check is by identity
+            applied.model = current;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Hash of what makes a model look different: asset id, model and texture paths, scale and attachments.
+     */
+    static long fingerprint(@Nonnull Model model) {
+        long h = Objects.hashCode(model.getModelAssetId());
+        h = h * 31 + Objects.hashCode(model.getModel());
+        h = h * 31 + Objects.hashCode(model.getTexture());
+        h = h * 31 + Float.floatToIntBits(model.getScale());
+        ModelAttachment[] attachments = model.getAttachments();
+        if (attachments != null) {
+            for (ModelAttachment attachment : attachments) {
+                if (attachment == null) {
+                    continue;
+                }
+                h = h * 31 + Objects.hashCode(attachment.getModel());
+                h = h * 31 + Objects.hashCode(attachment.getTexture());
+            }
+        }
+        return h;
+    }
+}
@@ -0,0 +1,126 @@
+package com.hexvane.orbisorigins.util;
+
+import com.hypixel.hytale.server.core.asset.type.model.config.Model;
+import com.hexvane.orbisorigins.species.AttachmentOption;
+import com.hexvane.orbisorigins.species.SpeciesAbilityConfig;
+import com.hexvane.orbisorigins.species.SpeciesData;
+import com.hexvane.orbisorigins.species.SpeciesStatModifier;
+import com.hexvane.orbisorigins.species.SpeciesVariantData;
+import com.hexvane.orbisorigins.species.VariantView;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Fingerprints of species state for {@link com.hexvane.orbisorigins.data.AppliedSpeciesComponent}: what each
+ * apply step (stats, abilities, model) was computed from, including the species definition content so a
+ * reload that changes a value invalidates it. Values are persisted, so only hashes that are stable across
+ * restarts are used (strings, numbers, map content). Never 0, which marks a step as not applied.
+ */
+public final class AppliedSpeciesFingerprint {
+    /**
+     * Abilities are held by AbilityAPI in memory, not with the entity; mixing in a per-session value makes
+     * an ability fingerprint saved before a restart never match.
+     */
+    private static final long SESSION = ThreadLocalRandom.current().nextLong();
+
+    private AppliedSpeciesFingerprint() {}
+
+    /** Species id and stat modifiers; combine with the stat slot layout using {@link #stats(long, int)}. */
+    public static long stats(@Nonnull SpeciesData species) {
+        long h = species.getId().hashCode();
+        h = h * 31 + species.getHealthModifier();
+        h = h * 31 + species.getStaminaModifier();
+        h = h * 31 + species.getManaModifier();
+        for (SpeciesStatModifier modifier : species.getStatModifiers()) {
+            h = h * 31 + modifier.hashCode();
+        }
+        return nonZero(h);
+    }
+
+    /**
+     * A {@link #stats(SpeciesData)} fingerprint applied under a stat slot layout
+     * ({@link SpeciesStatUtil.StatIndices#layout}), so stat types re-indexed by an asset reload or a restart
+     * with other stat assets invalidate it.
+     */
+    public static long stats(long speciesStats, int statLayout) {
+        return nonZero(speciesStats * 31 + statLayout);
+    }
+
+    /** Species id and every ability id, value, condition and metadata, for this server session. */
+    public static long abilities(@Nonnull SpeciesData species) {
+        long h = SESSION * 31 + species.getId().hashCode();
+        for (SpeciesAbilityConfig ability : species.getAbilities()) {
+            if (ability == null) {
+                continue;
+            }
+            h = h * 31 + Objects.hashCode(ability.getId());
+            h = h * 31 + Objects.hashCode(ability.getValue());
+            h = h * 31 + Objects.hashCode(ability.getCondition());
+            h = h * 31 + Objects.hashCode(ability.getMetadata());
+        }
+        return nonZero(h);
+    }
+
+    /**
+     * Species, variant, the player's texture and attachment selections and the variant's model definition.
+     */
+    public static long selection(
+            @Nonnull SpeciesData species,
+            @Nonnull VariantView view,
+            @Nullable String textureSelection,
+            @Nullable Map<String, String> attachmentSelections
+    ) {
+        long h = species.getId().hashCode();
+        h = h * 31 + view.getVariantIndex();
+        h = h * 31 + Objects.hashCode(textureSelection);
+        // Map.hashCode is content-based and independent of iteration order
+        h = h * 31 + (attachmentSelections != null ? attachmentSelections.hashCode() : 0);
+
+        h = h * 31 + view.getModelAssetId().hashCode();
+        h = h * 31 + Float.floatToIntBits(view.getScale());
+        h = h * 31 + Float.floatToIntBits(view.getEyeHeightModifier());
+        h = h * 31 + Float.floatToIntBits(view.getHitboxHeightModifier());
+        h = h * 31 + Objects.hashCode(view.getEyeHeight());
+        h = h * 31 + Objects.hashCode(view.getCrouchOffset());
+        h = h * 31 + Objects.hashCode(view.getSittingOffset());
+        h = h * 31 + Objects.hashCode(view.getSleepingOffset());
+        SpeciesVariantData variant = view.getVariant();
+        if (variant != null) {
+            h = h * 31 + Objects.hashCode(variant.getModel());
+            h = h * 31 + variant.getTextures().hashCode();
+        }
+        h = h * 31 + options(view.getAttachmentOptions());
+        h = h * 31 + options(species.getManualAttachments());
+        return nonZero(h);
+    }
+
+    /** Appearance of a built model (asset, paths, scale, attachments). */
+    public static long model(@Nonnull Model model) {
+        return nonZero(AppliedModelCache.fingerprint(model));
+    }
+
+    private static long options(@Nullable Map<String, Map<String, AttachmentOption>> slots) {
+        if (slots == null) {
+            return 0;
+        }
+        long h = 0;
+        for (Map.Entry<String, Map<String, AttachmentOption>> slot : slots.entrySet()) {
+            long s = slot.getKey().hashCode();
+            for (Map.Entry<String, AttachmentOption> option : slot.getValue().entrySet()) {
+                AttachmentOption value = option.getValue();
+                s = s * 31 + option.getKey().hashCode();
+                s = s * 31 + (value != null ? value.getModel().hashCode() * 31L + value.getTexture().hashCode() : 0);
+            }
+            // Slots combine commutatively: the map type (and so its order) may differ between loads
+            h += s;
+        }
+        return h;
+    }
+
+    private static long nonZero(long h) {
+        return h != 0 ? h : 1;
+    }
+}
@@ -0,0 +1,157 @@
+package com.hexvane.orbisorigins.util;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+
+/**
+ * Runs tasks on a world's thread a number of ticks from now, without re-queueing through
+ * {@link World#execute} every tick. Each world has a hashed timing wheel advanced once per tick by
+ * {@code DelayedTaskSystem}; scheduling and cancelling are O(1) and may happen from any thread.
+ * Due tasks run together in one {@link World#execute} batch at the start of the following tick.
+ * A world's wheel is dropped while it has nothing pending, so worlds that go away leave nothing behind.
+ */
+public final class DelayedTaskScheduler {
+    private static final Logger LOGGER = Logger.getLogger(DelayedTaskScheduler.class.getName());
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS; // 64 slots, ~3 seconds at 20 TPS per revolution
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static final Map<World, Wheel> WHEELS = new ConcurrentHashMap<>();
+
+    private DelayedTaskScheduler() {}
+
+    /**
+     * A scheduled task; cancel it when the work is no longer wanted (e.g. the player left).
+     */
+    public static final class TaskHandle {
+        private final Runnable task;
+        private final int delayTicks;
+        private int rounds;
+        private volatile boolean cancelled;
+
+        private TaskHandle(@Nonnull Runnable task, int delayTicks) {
+            this.task = task;
+            this.delayTicks = delayTicks;
+        }
+
+        /** Prevents the task from running if it has not run yet. */
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    /** Timing wheel of one world; slots are only touched on the world thread. */
+    private static final class Wheel {
+        @SuppressWarnings("unchecked")
+        final ArrayList<TaskHandle>[] slots = new ArrayList[WHEEL_SIZE];
+        /** Tasks scheduled since the last tick, possibly from other threads. */
+        final Queue<TaskHandle> incoming = new ConcurrentLinkedQueue<>();
+        int cursor;
+        /** Tasks in the slots. */
+        int pending;
+
+        Wheel() {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                slots[i] = new ArrayList<>();
+            }
+        }
+
+        void insert(@Nonnull TaskHandle handle) {
+            int delay = handle.delayTicks;
+            handle.rounds = (delay - 1) >>> WHEEL_BITS;
+            slots[(cursor + delay) & WHEEL_MASK].add(handle);
+            pending++;
+        }
+
+        /**
+         * Advances one slot and returns the tasks due now (null if none).
+         */
+        ArrayList<TaskHandle> advance() {
+            TaskHandle handle;
+            while ((handle = incoming.poll()) != null) {
+                insert(handle);
+            }
+            cursor = (cursor + 1) & WHEEL_MASK;
+            ArrayList<TaskHandle> slot = slots[cursor];
+            if (slot.isEmpty()) {
+                return null;
+            }
+            // Compact in place: keep tasks due in a later revolution, collect the ones due now
+            ArrayList<TaskHandle> due = null;
+            int kept = 0;
+            for (int i = 0; i < slot.size(); i++) {
+                TaskHandle entry = slot.get(i);
+                if (entry.cancelled) {
+                    continue;
+                }
+                if (entry.rounds > 0) {
+                    entry.rounds--;
+                    slot.set(kept++, entry);
+                    continue;
+                }
+                if (due == null) {
+                    due = new ArrayList<>();
+                }
+                due.add(entry);
+            }
+            pending -= slot.size() - kept;
+            slot.subList(kept, slot.size()).clear();
+            return due;
+        }
+    }
+
+    private static void runAll(@Nonnull ArrayList<TaskHandle> due) {
+        for (TaskHandle entry : due) {
+            if (entry.cancelled) {
+                continue;
+            }
+            try {
+                entry.task.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "DelayedTaskScheduler: Delayed task failed", e);
+            }
+        }
+    }
+
+    /**
+     * Runs {@code task} on the world thread {@code delayTicks} ticks from now (at least one tick).
+     * Work that only has to leave the current system pass should use {@link World#execute}, which runs sooner.
+     */
+    @Nonnull
+    public static TaskHandle schedule(@Nonnull World world, int delayTicks, @Nonnull Runnable task) {
+        TaskHandle handle = new TaskHandle(task, Math.max(1, delayTicks));
+        WHEELS.compute(world, (w, wheel) -> {
+            Wheel target = wheel != null ? wheel : new Wheel();
+            target.incoming.add(handle);
+            return target;
+        });
+        return handle;
+    }
+
+    /**
+     * Advances the world's wheel by one tick. Called on the world thread while the store ticks, so the
+     * tasks that are due are handed to {@link World#execute} as one batch and run outside system
+     * processing, where they may add and remove entities and components.
+     */
+    public static void tick(@Nonnull World world) {
+        Wheel wheel = WHEELS.get(world);
+        if (wheel == null) {
+            return;
+        }
+        ArrayList<TaskHandle> due = wheel.advance();
+        if (due != null) {
+            world.execute(() -> runAll(due));
+        }
+        if (wheel.pending == 0) {
+            // Atomic with schedule(): a task added meanwhile keeps the wheel
+            WHEELS.computeIfPresent(world, (w, current) -> current.pending == 0 && current.incoming.isEmpty() ? null : current);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.hexvane.orbisorigins.util;
+
+import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Model asset ids by case-folded id without namespace prefix, and by case-folded leaf name (last path
+ * segment), so a model name that misses the ModelAsset map (wrong case, "mod:" prefix, missing "NPC/..." path)
+ * resolves with a lookup or two. A leaf name shared by several models is ambiguous and never resolved by leaf.
+ * Rebuilt whenever ModelAsset assets (re)load.
+ */
+public final class ModelAssetIndex {
+    private static final Logger LOGGER = Logger.getLogger(ModelAssetIndex.class.getName());
+    /** Minimum time between "not found" logs for the same name. */
+    private static final long LOG_INTERVAL_MILLIS = 60_000L;
+    /** Names whose last log time is kept; the map is cleared when it grows past this. */
+    private static final int MAX_LOGGED_NAMES = 256;
+    /** Leaf index value for leaf names shared by more than one model id. */
+    private static final String AMBIGUOUS = "";
+
+    @Nullable
+    private static volatile Index index;
+    private static final Map<String, Long> LAST_LOGGED = new ConcurrentHashMap<>();
+
+    private static final class Index {
+        final Map<String, String> byId;
+        final Map<String, String> byLeaf;
+
+        Index(@Nonnull Map<String, String> byId, @Nonnull Map<String, String> byLeaf) {
+            this.byId = byId;
+            this.byLeaf = byLeaf;
+        }
+    }
+
+    private ModelAssetIndex() {}
+
+    /**
+     * Rebuilds the index from the ModelAsset map; call when ModelAsset assets (re)load.
+     */
+    public static void rebuild() {
+        if (ModelAsset.getAssetMap() == null) {
+            return;
+        }
+        // Sorted so that which of two ids differing only in case wins does not depend on load order
+        List<String> ids = new ArrayList<>(ModelAsset.getAssetMap().getAssetMap().keySet());
+        Collections.sort(ids);
+        Map<String, String> byId = new HashMap<>(ids.size() * 2);
+        Map<String, String> byLeaf = new HashMap<>(ids.size() * 2);
+        for (String id : ids) {
+            String normalized = normalize(id);
+            if (byId.putIfAbsent(normalized, id) != null) {
+                continue;
+            }
+            byLeaf.merge(leaf(normalized), id, (a, b) -> AMBIGUOUS);
+        }
+        index = new Index(byId, byLeaf);
+        LAST_LOGGED.clear();
+    }
+
+    /**
+     * The model asset id matching {@code modelName} ignoring case and namespace prefix, else the only model id
+     * with the same leaf name; null if there is none or the leaf name is ambiguous.
+     */
+    @Nullable
+    public static String resolve(@Nonnull String modelName) {
+        Index current = index;
+        if (current == null) {
+            rebuild();
+            current = index;
+            if (current == null) {
+                return null;
+            }
+        }
+        String normalized = normalize(modelName);
+        String id = current.byId.get(normalized);
+        if (id != null) {
+            return id;
+        }
+        id = current.byLeaf.get(leaf(normalized));
+        return id == null || id.equals(AMBIGUOUS) ? null : id;
+    }
+
+    /**
+     * Logs a model name that missed the ModelAsset map, at most once per {@link #LOG_INTERVAL_MILLIS} per name.
+     */
+    static void logMiss(@Nonnull String modelName, @Nullable String resolved) {
+        long now = System.currentTimeMillis();
+        Long last = LAST_LOGGED.get(modelName);
+        if (last != null && now - last < LOG_INTERVAL_MILLIS) {
+            return;
+        }
+        if (LAST_LOGGED.size() >= MAX_LOGGED_NAMES) {
+            LAST_LOGGED.clear();
+        }
+        LAST_LOGGED.put(modelName, now);
+        if (resolved != null) {
+            LOGGER.warning("ModelUtil: Model asset not found: " + modelName + ", using " + resolved);
+        } else {
+            LOGGER.warning("ModelUtil: Model asset not found: " + modelName
+                    + " (no model id matches ignoring case, and no unique model has that name)");
+        }
+    }
+
+    /** Case-folded id without a "namespace:" prefix. */
+    @Nonnull
+    static String normalize(@Nonnull String modelName) {
+        return modelName.substring(modelName.indexOf(':') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    @Nonnull
+    private static String leaf(@Nonnull String normalized) {
+        return normalized.substring(normalized.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,164 @@
+package com.hexvane.orbisorigins.util;
+
+import com.hypixel.hytale.server.core.asset.type.model.config.Model;
+import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
+import com.hexvane.orbisorigins.data.PlayerDataStorage;
+import com.hexvane.orbisorigins.data.PlayerSpeciesData;
+import com.hexvane.orbisorigins.species.SpeciesData;
+import com.hexvane.orbisorigins.species.SpeciesRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Builds the models of persisted v2 species selections (variant, texture and attachments players have chosen)
+ * into {@link SpeciesModelCache} on a background pool, so returning players do not build them on the world
+ * thread. Only chosen variants are built, so variants nobody picked stay unparsed, and at most
+ * {@link #MAX_PREWARMED} distinct selections are built so most of the cache stays free. Requested whenever
+ * the cache is invalidated; requests made while one is still waiting to start are merged. Off by default
+ * (config PrewarmModelCache). v1 species are not pre-warmed.
+ */
+public final class ModelCachePrewarmer {
+    private static final Logger LOGGER = Logger.getLogger(ModelCachePrewarmer.class.getName());
+    private static final int POOL_SIZE = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+    static final int MAX_PREWARMED = SpeciesModelCache.MAX_ENTRIES / 2;
+
+    private static volatile boolean enabled;
+    /** True while a pre-warm is requested but has not started reading the registry. */
+    private static final AtomicBoolean PENDING = new AtomicBoolean();
+    /** Runs pre-warms one at a time; the builds of each go to {@link #pool}. */
+    @Nullable
+    private static ExecutorService coordinator;
+    @Nullable
+    private static ExecutorService pool;
+
+    private ModelCachePrewarmer() {}
+
+    /**
+     * Turns pre-warming on or off (config PrewarmModelCache); turning it on requests a pre-warm.
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+        if (value) {
+            request();
+        }
+    }
+
+    /**
+     * Schedules a pre-warm if enabled. Does nothing until species and ModelAssets are loaded; the cache
+     * invalidation that follows their loading requests it again.
+     */
+    public static void request() {
+        if (!enabled || !PENDING.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            coordinator().execute(ModelCachePrewarmer::run);
+        } catch (RuntimeException e) {
+            PENDING.set(false);
+            LOGGER.log(Level.WARNING, "Could not schedule model cache pre-warm", e);
+        }
+    }
+
+    /**
+     * Stops the background threads (plugin shutdown).
+     */
+    public static synchronized void shutdown() {
+        enabled = false;
+        if (coordinator != null) {
+            coordinator.shutdownNow();
+            coordinator = null;
+        }
+        if (pool != null) {
+            pool.shutdownNow();
+            pool = null;
+        }
+    }
+
+    private static synchronized ExecutorService coordinator() {
+        if (coordinator == null) {
+            coordinator = Executors.newSingleThreadExecutor(ModelCachePrewarmer::newThread);
+        }
+        return coordinator;
+    }
+
+    private static synchronized ExecutorService pool() {
+        if (pool == null) {
+            pool = Executors.newFixedThreadPool(POOL_SIZE, ModelCachePrewarmer::newThread);
+        }
+        return pool;
+    }
+
+    @Nonnull
+    private static Thread newThread(@Nonnull Runnable task) {
+        Thread thread = new Thread(task, "OrbisOrigins-ModelPrewarm-" + THREAD_ID.incrementAndGet());
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    }
+
+    private static void run() {
+        PENDING.set(false);
+        if (ModelAsset.getAssetMap() == null || ModelAsset.getAssetMap().getAssetMap().isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long missesBefore = SpeciesModelCache.getMissCount();
+        List<CompletableFuture<Model>> builds = new ArrayList<>();
+        ExecutorService executor = pool();
+        Set<String> seen = new HashSet<>();
+        for (PlayerSpeciesData.SpeciesSelection selection : PlayerDataStorage.getAllSpeciesSelections()) {
+            if (builds.size() >= MAX_PREWARMED) {
+                break;
+            }
+            if (!selection.hasChosen()) {
+                continue;
+            }
+            // Registry reads go through its immutable snapshot: registration may be running on another thread
+            SpeciesData species = SpeciesRegistry.getSpecies(selection.getSpeciesId());
+            int variantIndex = selection.getVariantIndex();
+            if (species == null || !species.isEnabled() || !species.isVersion2() || species.usesPlayerModel()
+                    || variantIndex < 0 || variantIndex >= species.getVariantCount()) {
+                continue;
+            }
+            String texture = selection.getTextureSelection();
+            Map<String, String> attachments = selection.getAttachmentSelections();
+            if (!seen.add(species.getId() + '|' + variantIndex + '|' + texture + '|'
+                    + SpeciesModelCache.canonicalSelections(attachments))) {
+                continue;
+            }
+            builds.add(CompletableFuture.supplyAsync(
+                    () -> ModelUtil.createModelForV2(species, variantIndex, texture, attachments), executor));
+        }
+        if (builds.isEmpty()) {
+            return;
+        }
+        int ready = 0;
+        for (CompletableFuture<Model> build : builds) {
+            try {
+                if (build.join() != null) {
+                    ready++;
+                }
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.FINE, "Model cache pre-warm build failed", e);
+            }
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000L;
+        // Misses may include concurrent world-thread builds; close enough for a startup report
+        long built = Math.min(builds.size(), SpeciesModelCache.getMissCount() - missesBefore);
+        LOGGER.info("Pre-warmed species model cache: " + ready + "/" + builds.size() + " stored selection(s) ready, "
+                + built + " model(s) built in " + millis + " ms on " + POOL_SIZE + " thread(s)");
+    }
+}
@@ -10,11 +10,13 @@ import com.hypixel.hytale.server.core.cosmetics.CosmeticsModule;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
 import com.hypixel.hytale.server.core.modules.entity.player.PlayerSkinComponent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hexvane.orbisorigins.species.AttachmentOption;
 import com.hexvane.orbisorigins.species.SpeciesData;
 import com.hexvane.orbisorigins.species.SpeciesVariantData;
-import java.util.ArrayList;
+import com.hexvane.orbisorigins.species.VariantView;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -30,33 +32,19 @@ public class ModelUtil {
     private static final Logger LOGGER = Logger.getLogger(ModelUtil.class.getName());
     
     /**
-     * Gets a model by name.
+     * Gets a model by name. A name that is not a model asset id is resolved through {@link ModelAssetIndex}
+     * (ignoring case, namespace prefix and directories).
      */
     @Nullable
     public static Model getModel(@Nonnull String modelName) {
         ModelAsset modelAsset = ModelAsset.getAssetMap().getAsset(modelName);
         if (modelAsset == null) {
-            LOGGER.warning("ModelUtil: Model asset not found: " + modelName);
-            // Try to find similar model names
-            var allModels = ModelAsset.getAssetMap().getAssetMap().keySet();
-            LOGGER.info("ModelUtil: Available models (first 20): " + 
-                allModels.stream().sorted().limit(20).collect(java.util.stream.Collectors.joining(", ")));
-            // Try common variations
-            String[] variations = {
-                "NPC/Intelligent/" + modelName,
-                "NPC/" + modelName,
-                modelName.replace("_", "/"),
-                modelName.toLowerCase(),
-                modelName.toUpperCase()
-            };
-            for (String variation : variations) {
-                ModelAsset altAsset = ModelAsset.getAssetMap().getAsset(variation);
-                if (altAsset != null) {
-                    LOGGER.info("ModelUtil: Found model with variation: " + variation);
-                    return Model.createScaledModel(altAsset, 1.0f);
-                }
+            String resolved = ModelAssetIndex.resolve(modelName);
+            ModelAssetIndex.logMiss(modelName, resolved);
+            modelAsset = resolved != null ? ModelAsset.getAssetMap().getAsset(resolved) : null;
+            if (modelAsset == null) {
+                return null;
             }
-            return null;
         }
         return Model.createScaledModel(modelAsset, 1.0f);
     }
@@ -117,6 +105,36 @@ public class ModelUtil {
         applyModelToPlayer(playerRef, store, modelName, eyeHeightModifier, hitboxHeightModifier, attachmentSelections, 1.0f);
     }
 
+    /**
+     * Applies a v1 species variant to a player entity using its resolved view (model, modifiers and scale).
+     * Models with selected attachments come from {@link SpeciesModelCache}; random attachments are rolled anew.
+     * @param attachmentSelections Map of attachment type -> selected option name (null or empty to use random;
+     *                             "null" options select no attachment)
+     */
+    public static void applyModelToPlayer(
+            @Nonnull Ref<EntityStore> playerRef,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull SpeciesData species,
+            @Nonnull VariantView view,
+            @Nullable Map<String, String> attachmentSelections
+    ) {
+        Model model;
+        if (attachmentSelections == null || attachmentSelections.isEmpty()) {
+            model = createModelForV1(view.getModelAssetId(), view.getEyeHeightModifier(),
+                    view.getHitboxHeightModifier(), null, view.getScale());
+        } else {
+            model = SpeciesModelCache.get(species.getId(), view.getVariantIndex(), null, attachmentSelections, view.getScale(),
+                    attachments -> createModelForV1(view.getModelAssetId(), view.getEyeHeightModifier(),
+                            view.getHitboxHeightModifier(), attachments, view.getScale()));
+        }
+        if (model == null) {
+            return;
+        }
+        recordApplied(playerRef, store, view, model);
+        store.putComponent(playerRef, ModelComponent.getComponentType(), new ModelComponent(model));
+        LOGGER.fine("ModelUtil: Applied model to player: " + view.getModelAssetId());
+    }
+
     /**
      * Applies a model to a player entity with modifiers, attachment selections, and scale.
      * @param eyeHeightModifier Additive modifier to the model's base eye height (in blocks)
@@ -132,21 +150,44 @@ public class ModelUtil {
             float hitboxHeightModifier,
             @Nullable Map<String, String> attachmentSelections,
             float scale
+    ) {
+        Map<String, String> selections = attachmentSelections != null && !attachmentSelections.isEmpty() ? attachmentSelections : null;
+        Model modelToApply = createModelForV1(modelName, eyeHeightModifier, hitboxHeightModifier, selections, scale);
+        if (modelToApply == null) {
+            return;
+        }
+        store.putComponent(playerRef, ModelComponent.getComponentType(), new ModelComponent(modelToApply));
+        LOGGER.fine("ModelUtil: Applied model to player: " + modelName);
+    }
+
+    /**
+     * Creates a v1 model with modifiers, attachment selections, and scale.
+     * Returns null if the model asset is not found.
+     * @param attachmentSelections selected options; null rolls random attachments, while selections that are
+     *                             all "none" (or empty) give no attachments
+     */
+    @Nullable
+    private static Model createModelForV1(
+            @Nonnull String modelName,
+            float eyeHeightModifier,
+            float hitboxHeightModifier,
+            @Nullable Map<String, String> attachmentSelections,
+            float scale
     ) {
         ModelAsset modelAsset = ModelAsset.getAssetMap().getAsset(modelName);
         if (modelAsset == null) {
             LOGGER.warning("ModelUtil: Model asset not found: " + modelName);
-            return;
+            return null;
         }
         
         // Build attachment map from selections if provided, otherwise use random
         Map<String, String> attachmentMap;
-        if (attachmentSelections != null && !attachmentSelections.isEmpty()) {
+        if (attachmentSelections != null) {
             // Build attachment map from player selections
             attachmentMap = buildAttachmentMap(attachmentSelections, modelAsset);
             LOGGER.info("ModelUtil: Using selected attachments: " + attachmentMap);
         } else {
-            // Use random attachments if no selections provided
+            // Use random attachments if no selections were made
             attachmentMap = modelAsset.generateRandomAttachmentIds();
             LOGGER.fine("ModelUtil: Using random attachments");
         }
@@ -155,7 +196,7 @@ public class ModelUtil {
         Model baseModel = Model.createScaledModel(modelAsset, scale, attachmentMap);
         if (baseModel == null) {
             LOGGER.warning("ModelUtil: Failed to create model: " + modelName);
-            return;
+            return null;
         }
         
         Model modelToApply = baseModel;
@@ -217,13 +258,12 @@ public class ModelUtil {
                     ", hitboxHeight: " + (baseModel.getBoundingBox() != null ? baseModel.getBoundingBox().height() : "null") + 
                     " -> " + (newBoundingBox != null ? newBoundingBox.height() : "null") + ")");
         }
-        
-        store.putComponent(playerRef, ModelComponent.getComponentType(), new ModelComponent(modelToApply));
-        LOGGER.fine("ModelUtil: Applied model to player: " + modelName);
+        return modelToApply;
     }
 
     /**
-     * Creates a Model for v2 species variant (used for both apply and preview).
+     * Returns the Model for a v2 species variant (used for both apply and preview), shared through
+     * {@link SpeciesModelCache}; do not modify it.
      * Returns null if parent asset or variant not found.
      */
     @Nullable
@@ -233,57 +273,83 @@ public class ModelUtil {
             @Nullable String textureSelection,
             @Nullable Map<String, String> attachmentSelections
     ) {
-        SpeciesVariantData variant = species.getVariantData(variantIndex);
+        if (!species.isVersion2()) return null;
+        VariantView view = species.getVariantView(variantIndex);
+        SpeciesVariantData variant = view.getVariant();
         if (variant == null) return null;
-        ModelAsset parentAsset = ModelAsset.getAssetMap().getAsset(variant.getParentModel());
-        if (parentAsset == null) return null;
-
-        float scale = variant.getScale() != null ? variant.getScale() : species.getModelScale();
+        // Keyed by the texture actually used, so a missing, stale or first-texture selection shares one model
+        String texture = normalizeTexture(variant.getTextures(), textureSelection);
+        return SpeciesModelCache.get(species.getId(), view.getVariantIndex(), texture, attachmentSelections, view.getScale(),
+                attachments -> buildModelForV2(view, texture, attachments));
+    }
 
-        List<String> textures = variant.getTextures();
-        String texture = textureSelection;
-        if (texture == null || texture.isEmpty() || !textures.contains(texture)) {
-            texture = textures.isEmpty() ? parentAsset.getTexture() : textures.get(0);
+    /**
+     * The selected texture if the variant offers it, else its first texture; null (parent asset texture) if it has none.
+     */
+    @Nullable
+    private static String normalizeTexture(@Nonnull List<String> textures, @Nullable String textureSelection) {
+        if (textureSelection != null && !textureSelection.isEmpty() && textures.contains(textureSelection)) {
+            return textureSelection;
         }
-        float eyeHeight = variant.getEyeHeight() != null ? variant.getEyeHeight() : parentAsset.getEyeHeight();
-        float crouchOffset = variant.getCrouchOffset() != null ? variant.getCrouchOffset() : parentAsset.getCrouchOffset();
-        Box boundingBox = variant.getHitBox() != null ? variant.getHitBox() : parentAsset.getBoundingBox();
+        return textures.isEmpty() ? null : textures.get(0);
+    }
 
-        if (scale != 1.0f && boundingBox != null) {
-            boundingBox = boundingBox.clone().scale(scale);
-        }
-        if (scale != 1.0f) {
-            eyeHeight *= scale;
-            crouchOffset *= scale;
+    /**
+     * @param texture normalized texture (see {@link #normalizeTexture}); null uses the parent asset's texture
+     */
+    @Nullable
+    private static Model buildModelForV2(
+            @Nonnull VariantView view,
+            @Nullable String texture,
+            @Nonnull Map<String, String> attachmentSelections
+    ) {
+        SpeciesVariantData variant = view.getVariant();
+        if (variant == null) return null;
+        ModelAsset parentAsset = ModelAsset.getAssetMap().getAsset(view.getModelAssetId());
+        if (parentAsset == null) return null;
+
+        // View overrides are pre-scaled; only values taken from the parent asset are scaled here
+        float scale = view.getScale();
+
+        if (texture == null) {
+            texture = parentAsset.getTexture();
         }
-        float sittingOffset = variant.getSittingOffset() != null ? variant.getSittingOffset() : parentAsset.getSittingOffset();
-        float sleepingOffset = variant.getSleepingOffset() != null ? variant.getSleepingOffset() : parentAsset.getSleepingOffset();
-        if (scale != 1.0f) {
-            sittingOffset *= scale;
-            sleepingOffset *= scale;
+        float eyeHeight = view.getEyeHeight() != null ? view.getEyeHeight() : parentAsset.getEyeHeight() * scale;
+        float crouchOffset = view.getCrouchOffset() != null ? view.getCrouchOffset() : parentAsset.getCrouchOffset() * scale;
+        Box boundingBox = view.getHitBox();
+        if (boundingBox == null) {
+            boundingBox = parentAsset.getBoundingBox();
+            if (scale != 1.0f && boundingBox != null) {
+                boundingBox = boundingBox.clone().scale(scale);
+            }
         }
+        float sittingOffset = view.getSittingOffset() != null ? view.getSittingOffset() : parentAsset.getSittingOffset() * scale;
+        float sleepingOffset = view.getSleepingOffset() != null ? view.getSleepingOffset() : parentAsset.getSleepingOffset() * scale;
 
-        List<ModelAttachment> allAttachments = new ArrayList<>();
-        for (SpeciesVariantData.DefaultAttachmentDef def : variant.getDefaultAttachments()) {
-            allAttachments.add(new ModelAttachment(def.getModel(), def.getTexture(), null, null, 1.0));
-        }
-        if (attachmentSelections != null) {
+        // Attachments are prebuilt per definition; without selections the variant's array is used as is
+        // (cached models are never modified). Selections are canonical: no empty or "null" entries
+        ModelAttachment[] defaults = variant.getDefaultModelAttachments();
+        ModelAttachment[] attachmentsArray = defaults;
+        if (!attachmentSelections.isEmpty()) {
+            Map<String, Map<String, AttachmentOption>> slots = view.getAttachmentOptions();
+            ModelAttachment[] selected = new ModelAttachment[attachmentSelections.size()];
+            int count = 0;
             for (Map.Entry<String, String> entry : attachmentSelections.entrySet()) {
-                String slot = entry.getKey();
-                String selected = entry.getValue();
-                if (selected == null || selected.isEmpty() || "null".equals(selected)) continue;
-                Map<String, AttachmentOption> options = species.getAttachmentOptions(variantIndex, slot);
-                AttachmentOption opt = options.get(selected);
+                Map<String, AttachmentOption> options = slots.get(entry.getKey());
+                AttachmentOption opt = options != null ? options.get(entry.getValue()) : null;
                 if (opt != null) {
-                    allAttachments.add(new ModelAttachment(opt.getModel(), opt.getTexture(), null, null, 1.0));
+                    selected[count++] = opt.getModelAttachment();
                 }
             }
+            if (count > 0) {
+                attachmentsArray = Arrays.copyOf(defaults, defaults.length + count);
+                System.arraycopy(selected, 0, attachmentsArray, defaults.length, count);
+            }
         }
-        ModelAttachment[] attachmentsArray = allAttachments.toArray(new ModelAttachment[0]);
-        Map<String, String> attachmentMap = attachmentSelections != null ? new HashMap<>(attachmentSelections) : new HashMap<>();
+        Map<String, String> attachmentMap = new HashMap<>(attachmentSelections);
 
         return new Model(
-                variant.getParentModel(),
+                view.getModelAssetId(),
                 scale,
                 attachmentMap,
                 attachmentsArray,
@@ -325,10 +391,56 @@ public class ModelUtil {
             LOGGER.warning("ModelUtil: Failed to create v2 model for species " + species.getId() + " variant " + variantIndex);
             return;
         }
+        recordApplied(playerRef, store, species.getVariantView(variantIndex), model);
         store.putComponent(playerRef, ModelComponent.getComponentType(), new ModelComponent(model));
         LOGGER.fine("ModelUtil: Applied v2 model to player for species " + species.getId());
     }
 
+    /**
+     * Applies a species variant model to a player entity, v1 or v2.
+     * @param textureSelection v2 texture path (null for the variant's first texture)
+     * @param attachmentSelections Map of attachment type -> selected option name (null to use random for v1)
+     */
+    public static void applySpeciesModel(
+            @Nonnull Ref<EntityStore> playerRef,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull SpeciesData species,
+            int variantIndex,
+            @Nullable String textureSelection,
+            @Nullable Map<String, String> attachmentSelections
+    ) {
+        if (species.isVersion2()) {
+            applyModelToPlayerV2(playerRef, store, species, variantIndex, textureSelection, attachmentSelections);
+        } else {
+            applyModelToPlayer(playerRef, store, species, species.getVariantView(variantIndex), attachmentSelections);
+        }
+    }
+
+    /**
+     * Remembers the model instance about to be applied so drift checks can compare by identity.
+     * Recorded before the component is put, since putting it notifies {@code SpeciesModelEnforcementSystem}.
+     */
+    private static void recordApplied(
+            @Nonnull Ref<EntityStore> playerRef,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull VariantView view,
+            @Nonnull Model model
+    ) {
+        PlayerRef player = store.getComponent(playerRef, PlayerRef.getComponentType());
+        if (player != null) {
+            AppliedModelCache.record(player.getUuid(), view, model);
+        }
+    }
+
+    /**
+     * Returns true if {@code model} is the variant's model: same model asset id and scale.
+     */
+    public static boolean matchesVariant(@Nullable Model model, @Nonnull VariantView view) {
+        return model != null
+                && view.getModelAssetId().equals(model.getModelAssetId())
+                && Math.abs(model.getScale() - view.getScale()) <= 1e-5f;
+    }
+
     /**
      * Builds an attachment map from player selections.
      * The attachment type names (Hair, Beard, etc.) are used as slot names.
@@ -384,6 +496,10 @@ public class ModelUtil {
             return;
         }
 
+        PlayerRef player = store.getComponent(playerRef, PlayerRef.getComponentType());
+        if (player != null) {
+            AppliedModelCache.clear(player.getUuid());
+        }
         Model newModel = CosmeticsModule.get().createModel(skinComponent.getPlayerSkin());
         store.putComponent(playerRef, ModelComponent.getComponentType(), new ModelComponent(newModel));
         skinComponent.setNetworkOutdated();
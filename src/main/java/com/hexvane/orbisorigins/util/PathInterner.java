@@ -0,0 +1,98 @@
+package com.hexvane.orbisorigins.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Plugin-wide canonical instances for asset path strings (models, textures, attachments).
+ * Species JSON repeats the same long paths across variants, default attachments and attachment options,
+ * and persisted player selections repeat them again; interning keeps one String per distinct path.
+ * Counts every duplicate it drops so the saving can be reported with {@link #report()}. Paths and counts start
+ * over on every species (re)load ({@link #reset()}); v2 variants are parsed lazily, so their paths are only
+ * counted once a variant is first used.
+ */
+public final class PathInterner {
+    private static final Map<String, String> PATHS = new ConcurrentHashMap<>();
+    private static final LongAdder LOOKUPS = new LongAdder();
+    private static final LongAdder DUPLICATES = new LongAdder();
+    private static final LongAdder BYTES_SAVED = new LongAdder();
+
+    private PathInterner() {}
+
+    /**
+     * Returns the canonical instance equal to {@code path}, registering it if it is new.
+     * Null and empty strings are returned unchanged.
+     */
+    @Nullable
+    public static String intern(@Nullable String path) {
+        if (path == null || path.isEmpty()) {
+            return path;
+        }
+        LOOKUPS.increment();
+        String canonical = PATHS.putIfAbsent(path, path);
+        if (canonical == null) {
+            return path;
+        }
+        if (canonical != path) {
+            DUPLICATES.increment();
+            BYTES_SAVED.add(estimateBytes(path));
+        }
+        return canonical;
+    }
+
+    /**
+     * Approximate heap size of a String on a 64-bit JVM with compressed oops and compact strings:
+     * the String object plus its backing byte array, each rounded up to 8 bytes.
+     */
+    static long estimateBytes(@Nonnull String s) {
+        boolean latin1 = true;
+        for (int i = 0; i < s.length() && latin1; i++) {
+            latin1 = s.charAt(i) < 256;
+        }
+        long data = latin1 ? s.length() : 2L * s.length();
+        return 24 + align8(16 + data);
+    }
+
+    private static long align8(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /**
+     * Drops every held path and zeroes the counts; called before species are (re)loaded. Strings already handed
+     * out stay valid, they are just no longer shared with later lookups.
+     */
+    public static void reset() {
+        PATHS.clear();
+        LOOKUPS.reset();
+        DUPLICATES.reset();
+        BYTES_SAVED.reset();
+    }
+
+    /** Number of distinct paths held. */
+    public static int size() {
+        return PATHS.size();
+    }
+
+    /** Estimated bytes no longer retained because duplicates were replaced by canonical instances. */
+    public static long getBytesSaved() {
+        return BYTES_SAVED.sum();
+    }
+
+    /**
+     * One-line memory summary, e.g. for the log after species and player data load.
+     */
+    @Nonnull
+    public static String report() {
+        long held = 0;
+        for (String path : PATHS.keySet()) {
+            held += estimateBytes(path);
+        }
+        return String.format(
+                "Path interner (since species load, lazy variants as used): %d distinct path(s) (~%.1f KB), "
+                        + "%d duplicate(s) of %d lookup(s) shared, ~%.1f KB saved",
+                PATHS.size(), held / 1024.0, DUPLICATES.sum(), LOOKUPS.sum(), BYTES_SAVED.sum() / 1024.0);
+    }
+}
@@ -0,0 +1,162 @@
+package com.hexvane.orbisorigins.util;
+
+import com.hypixel.hytale.server.core.asset.type.model.config.Model;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Species {@link Model}s built by {@link ModelUtil}, shared between every player (and preview) with the same
+ * species, variant, texture, attachment selection and scale. Models are treated as immutable once built.
+ * Bounded (least recently used entries are dropped) and cleared whenever the species registry or the
+ * ModelAsset map changes.
+ */
+public final class SpeciesModelCache {
+    static final int MAX_ENTRIES = 512;
+
+    private static final Map<Key, Model> MODELS = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Model> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    /** Bumped by {@link #invalidate()}; models built across an invalidation are not stored. */
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private SpeciesModelCache() {}
+
+    private static final class Key {
+        final String speciesId;
+        final int variantIndex;
+        @Nullable
+        final String texture;
+        final Map<String, String> attachments;
+        final float scale;
+        final int hash;
+
+        Key(@Nonnull String speciesId, int variantIndex, @Nullable String texture,
+            @Nonnull Map<String, String> attachments, float scale) {
+            this.speciesId = speciesId;
+            this.variantIndex = variantIndex;
+            this.texture = texture;
+            this.attachments = attachments;
+            this.scale = scale;
+            this.hash = Objects.hash(speciesId, variantIndex, texture, attachments, Float.floatToIntBits(scale));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return variantIndex == other.variantIndex
+                    && Float.compare(scale, other.scale) == 0
+                    && speciesId.equals(other.speciesId)
+                    && Objects.equals(texture, other.texture)
+                    && attachments.equals(other.attachments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Returns the cached model for the selection, building it with {@code builder} on a miss.
+     * {@code builder} receives the canonical attachment selection (see {@link #canonicalSelections}) and may
+     * return null (nothing is cached then).
+     */
+    @Nullable
+    public static Model get(
+            @Nonnull String speciesId,
+            int variantIndex,
+            @Nullable String texture,
+            @Nullable Map<String, String> attachmentSelections,
+            float scale,
+            @Nonnull Function<Map<String, String>, Model> builder
+    ) {
+        Map<String, String> attachments = canonicalSelections(attachmentSelections);
+        Key key = new Key(speciesId, variantIndex, texture == null || texture.isEmpty() ? null : texture, attachments, scale);
+        Model model;
+        synchronized (MODELS) {
+            model = MODELS.get(key);
+        }
+        if (model != null) {
+            HITS.incrementAndGet();
+            return model;
+        }
+        MISSES.incrementAndGet();
+        int generation = GENERATION.get();
+        // Built outside the lock; two threads missing the same key at once both build, and one result is kept
+        model = builder.apply(attachments);
+        if (model == null) {
+            return null;
+        }
+        synchronized (MODELS) {
+            if (generation != GENERATION.get()) {
+                return model;
+            }
+            Model existing = MODELS.putIfAbsent(key, model);
+            return existing != null ? existing : model;
+        }
+    }
+
+    /**
+     * Attachment selections without empty or {@code "null"} (no attachment) entries, in slot order and
+     * unmodifiable, so equivalent selections share one model. Selections that are all "none" become an empty
+     * map, which builders treat as "no attachments", never as "no selection" (random attachments are not cached).
+     */
+    @Nonnull
+    static Map<String, String> canonicalSelections(@Nullable Map<String, String> attachmentSelections) {
+        if (attachmentSelections == null || attachmentSelections.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        TreeMap<String, String> canonical = new TreeMap<>();
+        for (Map.Entry<String, String> entry : attachmentSelections.entrySet()) {
+            String selected = entry.getValue();
+            if (entry.getKey() != null && selected != null && !selected.isEmpty() && !"null".equals(selected)) {
+                canonical.put(entry.getKey(), selected);
+            }
+        }
+        return canonical.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(canonical);
+    }
+
+    /**
+     * Drops every cached model; call when species are (re)registered or ModelAsset assets (re)load.
+     * Requests a {@link ModelCachePrewarmer pre-warm} of stored player selections.
+     */
+    public static void invalidate() {
+        synchronized (MODELS) {
+            GENERATION.incrementAndGet();
+            MODELS.clear();
+        }
+        ModelCachePrewarmer.request();
+    }
+
+    public static int size() {
+        synchronized (MODELS) {
+            return MODELS.size();
+        }
+    }
+
+    public static long getHitCount() {
+        return HITS.get();
+    }
+
+    public static long getMissCount() {
+        return MISSES.get();
+    }
+}
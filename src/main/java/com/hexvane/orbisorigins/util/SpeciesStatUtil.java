@@ -4,83 +4,340 @@ import com.hypixel.hytale.component.ComponentType;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatValue;
 import com.hypixel.hytale.server.core.modules.entitystats.asset.EntityStatType;
 import com.hypixel.hytale.server.core.modules.entitystats.modifier.Modifier;
 import com.hypixel.hytale.server.core.modules.entitystats.modifier.StaticModifier;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hexvane.orbisorigins.species.SpeciesData;
+import com.hexvane.orbisorigins.species.SpeciesStatModifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * Utility class for applying species-specific stat modifiers to players.
+ * Every (stat, additive/multiplicative) pair any species modifies gets a slot with a fixed modifier key.
+ * Species compile their modifiers once into a table indexed by slot, kept in their
+ * {@link com.hexvane.orbisorigins.species.ApplyPlan} ({@link #compileModifiers}); {@link #applyStats} walks
+ * that table against the slots' EntityStatType indices ({@link #resolveStatIndices}), touching only the
+ * modifiers that differ from what the player already has.
  */
 public class SpeciesStatUtil {
     private static final Logger LOGGER = Logger.getLogger(SpeciesStatUtil.class.getName());
-    private static final String HEALTH_MODIFIER_KEY = "ORBIS_ORIGINS_HEALTH";
-    private static final String STAMINA_MODIFIER_KEY = "ORBIS_ORIGINS_STAMINA";
-    private static final String MANA_MODIFIER_KEY = "ORBIS_ORIGINS_MANA";
-    
+    private static final String MODIFIER_KEY_PREFIX = "ORBIS_ORIGINS_";
+    private static final String MULTIPLIER_KEY_SUFFIX = "_MULTIPLIER";
+
     private static final ComponentType<EntityStore, EntityStatMap> ENTITY_STAT_MAP_TYPE = EntityStatMap.getComponentType();
 
     /**
-     * Applies species stat modifiers (health, stamina, and mana) to a player.
+     * A stat and modifier key species modifiers are applied under. Stat ids differing only in case share a slot
+     * (they share the key). Slots are only ever added; modifiers under keys no slot owns (species or stats removed
+     * before a restart) are swept by {@link #removeOrphanedModifiers}.
+     */
+    private static final class Slot {
+        final String statId;
+        final SpeciesStatModifier.Type type;
+        final String key;
+
+        Slot(@Nonnull String statId, @Nonnull SpeciesStatModifier.Type type) {
+            this.statId = statId;
+            this.type = type;
+            this.key = keyFor(statId, type);
+        }
+    }
+
+    @Nonnull
+    private static String keyFor(@Nonnull String statId, @Nonnull SpeciesStatModifier.Type type) {
+        String key = MODIFIER_KEY_PREFIX + statId.toUpperCase(Locale.ROOT);
+        return type == SpeciesStatModifier.Type.MULTIPLICATIVE ? key + MULTIPLIER_KEY_SUFFIX : key;
+    }
+
+    /** Health, stamina and mana shorthands first; their keys (ORBIS_ORIGINS_HEALTH, ...) predate the table. */
+    private static volatile Slot[] slots = {
+            new Slot("Health", SpeciesStatModifier.Type.ADDITIVE),
+            new Slot("Stamina", SpeciesStatModifier.Type.ADDITIVE),
+            new Slot("Mana", SpeciesStatModifier.Type.ADDITIVE)
+    };
+    private static final int HEALTH_SLOT = 0;
+    private static final int STAMINA_SLOT = 1;
+    private static final int MANA_SLOT = 2;
+
+    /** Bumped whenever EntityStatType assets (re)load; resolved indices are valid for one generation. */
+    private static final AtomicInteger STAT_TYPE_GENERATION = new AtomicInteger();
+
+    @Nullable
+    private static volatile StatIndices resolved;
+
+    /**
+     * Stat indices of the slots, resolved for one generation of the EntityStatType map (see {@link #onStatTypesLoaded}).
+     */
+    public static final class StatIndices {
+        public final int generation;
+        public final int[] indices;
+        /**
+         * Hash of every slot's key and stat index, the same across restarts for the same slots and stat types;
+         * never 0. Changes when a slot is added or the stat types are re-indexed.
+         */
+        public final int layout;
+
+        StatIndices(int generation, @Nonnull int[] indices, int layout) {
+            this.generation = generation;
+            this.indices = indices;
+            this.layout = layout;
+        }
+
+        /** True while the EntityStatType map has not reloaded and no slot was added since these were resolved. */
+        public boolean isCurrent() {
+            return generation == STAT_TYPE_GENERATION.get() && indices.length == slots.length;
+        }
+    }
+
+    /**
+     * Invalidates every resolved {@link StatIndices}; call when EntityStatType assets (re)load.
+     */
+    public static void onStatTypesLoaded() {
+        STAT_TYPE_GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Applies species stat modifiers to a player.
      */
     public static void applySpeciesStats(
             @Nonnull Ref<EntityStore> playerRef,
             @Nonnull Store<EntityStore> store,
             @Nonnull SpeciesData species
+    ) {
+        species.getApplyPlan().applyStats(playerRef, store);
+    }
+
+    /**
+     * Builds the species' modifier per slot, adding slots for stats no species modified before; null where the
+     * species leaves the slot unchanged. Several entries for the same stat and type are combined (amounts add,
+     * multipliers multiply), the health/stamina/mana shorthands included.
+     */
+    @Nonnull
+    public static StaticModifier[] compileModifiers(@Nonnull SpeciesData species) {
+        List<SpeciesStatModifier> declared = species.getStatModifiers();
+        int[] slotOf = new int[declared.size()];
+        int slotCount = 0;
+        for (int i = 0; i < slotOf.length; i++) {
+            slotOf[i] = slotFor(declared.get(i));
+            slotCount = Math.max(slotCount, slotOf[i] + 1);
+        }
+        float[] amounts = new float[Math.max(slotCount, MANA_SLOT + 1)];
+        boolean[] present = new boolean[amounts.length];
+        amounts[HEALTH_SLOT] = species.getHealthModifier();
+        amounts[STAMINA_SLOT] = species.getStaminaModifier();
+        amounts[MANA_SLOT] = species.getManaModifier();
+        present[HEALTH_SLOT] = present[STAMINA_SLOT] = present[MANA_SLOT] = true;
+        for (int i = 0; i < slotOf.length; i++) {
+            int slot = slotOf[i];
+            float amount = declared.get(i).getAmount();
+            if (!present[slot]) {
+                amounts[slot] = amount;
+                present[slot] = true;
+            } else if (declared.get(i).getType() == SpeciesStatModifier.Type.MULTIPLICATIVE) {
+                amounts[slot] *= amount;
+            } else {
+                amounts[slot] += amount;
+            }
+        }
+
+        Slot[] current = slots;
+        StaticModifier[] modifiers = new StaticModifier[amounts.length];
+        for (int slot = 0; slot < amounts.length; slot++) {
+            boolean multiplicative = current[slot].type == SpeciesStatModifier.Type.MULTIPLICATIVE;
+            if (!present[slot] || amounts[slot] == (multiplicative ? 1f : 0f)) {
+                continue;
+            }
+            modifiers[slot] = new StaticModifier(
+                    Modifier.ModifierTarget.MAX,
+                    multiplicative ? StaticModifier.CalculationType.MULTIPLICATIVE : StaticModifier.CalculationType.ADDITIVE,
+                    amounts[slot]
+            );
+        }
+        return modifiers;
+    }
+
+    /**
+     * The slot of a modifier's stat and type, added if new.
+     */
+    private static int slotFor(@Nonnull SpeciesStatModifier modifier) {
+        Slot[] current = slots;
+        int slot = indexOf(current, modifier);
+        if (slot >= 0) {
+            return slot;
+        }
+        synchronized (SpeciesStatUtil.class) {
+            current = slots;
+            slot = indexOf(current, modifier);
+            if (slot >= 0) {
+                return slot;
+            }
+            Slot[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = new Slot(modifier.getStatId(), modifier.getType());
+            slots = grown;
+            return current.length;
+        }
+    }
+
+    private static int indexOf(@Nonnull Slot[] current, @Nonnull SpeciesStatModifier modifier) {
+        String key = keyFor(modifier.getStatId(), modifier.getType());
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].key.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The EntityStatType index of each slot for the current generation, resolved once and shared by every
+     * species; null if stat types are not loaded yet.
+     */
+    @Nullable
+    public static StatIndices resolveStatIndices() {
+        StatIndices indices = resolved;
+        if (indices != null && indices.isCurrent()) {
+            return indices;
+        }
+        // Read the generation first: a reload racing with the lookup then just causes another resolve
+        int generation = STAT_TYPE_GENERATION.get();
+        Slot[] current = slots;
+        if (EntityStatType.getAssetMap() == null) {
+            return null;
+        }
+        int[] statIndices = new int[current.length];
+        int layout = 0;
+        for (int i = 0; i < current.length; i++) {
+            statIndices[i] = EntityStatType.getAssetMap().getIndex(current[i].statId);
+            if (statIndices[i] < 0) {
+                LOGGER.warning("Unknown stat in species stat modifiers: " + current[i].statId);
+            }
+            // Summed: slots are added in the order species compile, which may differ between restarts
+            layout += current[i].key.hashCode() * 31 + statIndices[i];
+        }
+        indices = new StatIndices(generation, statIndices, layout != 0 ? layout : 1);
+        resolved = indices;
+        return indices;
+    }
+
+    /**
+     * Replaces the player's species stat modifiers with {@code modifiers} (from {@link #compileModifiers}),
+     * removing those of every other slot, and fills each changed stat to its new maximum. Stats whose modifier is
+     * already the same are left alone, so re-applying an unchanged species causes no recalculation or sync.
+     * Only the slots are visited; see {@link #removeOrphanedModifiers} for modifiers no slot owns.
+     */
+    public static void applyStats(
+            @Nonnull Ref<EntityStore> playerRef,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull int[] statIndices,
+            @Nonnull StaticModifier[] modifiers
     ) {
         EntityStatMap entityStatMapComponent = store.getComponent(playerRef, ENTITY_STAT_MAP_TYPE);
         if (entityStatMapComponent == null) {
-            LOGGER.warning("applySpeciesStats: EntityStatMap component is null for player");
+            LOGGER.warning("applyStats: EntityStatMap component is null for player");
             return;
         }
 
-        // Get stat indices
-        int healthStatIndex = EntityStatType.getAssetMap().getIndex("Health");
-        int staminaStatIndex = EntityStatType.getAssetMap().getIndex("Stamina");
-        int manaStatIndex = EntityStatType.getAssetMap().getIndex("Mana");
+        Slot[] current = slots;
+        int count = Math.min(statIndices.length, current.length);
+        for (int i = 0; i < count; i++) {
+            int statIndex = statIndices[i];
+            if (statIndex < 0) {
+                continue;
+            }
+            // Tables compiled before later slots were added leave those slots unmodified
+            StaticModifier wanted = i < modifiers.length ? modifiers[i] : null;
+            String key = current[i].key;
+            EntityStatValue statValue = entityStatMapComponent.get(statIndex);
+            Modifier existing = statValue != null ? statValue.getModifier(key) : null;
+            if (isSame(existing, wanted)) {
+                continue;
+            }
+            // Use Predictable.SELF to ensure changes sync to the client
+            if (existing != null) {
+                entityStatMapComponent.removeModifier(EntityStatMap.Predictable.SELF, statIndex, key);
+            }
+            if (wanted != null) {
+                entityStatMapComponent.putModifier(EntityStatMap.Predictable.SELF, statIndex, key, wanted);
+                entityStatMapComponent.maximizeStatValue(EntityStatMap.Predictable.SELF, statIndex);
+            }
+        }
 
-        // Always remove previous modifiers first to ensure clean state
-        // Use Predictable.SELF to ensure changes sync to the client
-        entityStatMapComponent.removeModifier(EntityStatMap.Predictable.SELF, healthStatIndex, HEALTH_MODIFIER_KEY);
-        entityStatMapComponent.removeModifier(EntityStatMap.Predictable.SELF, staminaStatIndex, STAMINA_MODIFIER_KEY);
-        entityStatMapComponent.removeModifier(EntityStatMap.Predictable.SELF, manaStatIndex, MANA_MODIFIER_KEY);
+        // Component changes are automatically tracked by the ECS system - no need to putComponent
+    }
 
-        // Apply health modifier if non-zero
-        if (species.getHealthModifier() != 0) {
-            StaticModifier healthModifier = new StaticModifier(
-                    Modifier.ModifierTarget.MAX,
-                    StaticModifier.CalculationType.ADDITIVE,
-                    species.getHealthModifier()
-            );
-            entityStatMapComponent.putModifier(EntityStatMap.Predictable.SELF, healthStatIndex, HEALTH_MODIFIER_KEY, healthModifier);
-            entityStatMapComponent.maximizeStatValue(EntityStatMap.Predictable.SELF, healthStatIndex);
+    /**
+     * Removes modifiers with the species key prefix that no slot applies on that stat, e.g. persisted from a
+     * species or stat that no longer exists. Walks every stat and modifier key, so only call it when the player's
+     * modifiers may predate the current {@link StatIndices#layout} (first apply after load, slots or stat types
+     * changed).
+     */
+    public static void removeOrphanedModifiers(
+            @Nonnull Ref<EntityStore> playerRef,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull int[] statIndices
+    ) {
+        EntityStatMap entityStatMapComponent = store.getComponent(playerRef, ENTITY_STAT_MAP_TYPE);
+        if (entityStatMapComponent == null) {
+            return;
+        }
+        Slot[] current = slots;
+        for (int statIndex = 0; statIndex < entityStatMapComponent.size(); statIndex++) {
+            EntityStatValue statValue = entityStatMapComponent.get(statIndex);
+            Map<String, Modifier> existing = statValue != null ? statValue.getModifiers() : null;
+            if (existing == null || existing.isEmpty()) {
+                continue;
+            }
+            List<String> orphaned = null;
+            for (String key : existing.keySet()) {
+                if (key.startsWith(MODIFIER_KEY_PREFIX) && !isOwned(key, statIndex, current, statIndices)) {
+                    if (orphaned == null) {
+                        orphaned = new ArrayList<>();
+                    }
+                    orphaned.add(key);
+                }
+            }
+            if (orphaned == null) {
+                continue;
+            }
+            for (String key : orphaned) {
+                entityStatMapComponent.removeModifier(EntityStatMap.Predictable.SELF, statIndex, key);
+            }
         }
+    }
 
-        // Apply stamina modifier if non-zero
-        if (species.getStaminaModifier() != 0) {
-            StaticModifier staminaModifier = new StaticModifier(
-                    Modifier.ModifierTarget.MAX,
-                    StaticModifier.CalculationType.ADDITIVE,
-                    species.getStaminaModifier()
-            );
-            entityStatMapComponent.putModifier(EntityStatMap.Predictable.SELF, staminaStatIndex, STAMINA_MODIFIER_KEY, staminaModifier);
-            entityStatMapComponent.maximizeStatValue(EntityStatMap.Predictable.SELF, staminaStatIndex);
+    private static boolean isOwned(@Nonnull String key, int statIndex, @Nonnull Slot[] current, @Nonnull int[] statIndices) {
+        int count = Math.min(statIndices.length, current.length);
+        for (int i = 0; i < count; i++) {
+            if (statIndices[i] == statIndex && current[i].key.equals(key)) {
+                return true;
+            }
         }
+        return false;
+    }
 
-        // Apply mana modifier if non-zero
-        if (species.getManaModifier() != 0) {
-            StaticModifier manaModifier = new StaticModifier(
-                    Modifier.ModifierTarget.MAX,
-                    StaticModifier.CalculationType.ADDITIVE,
-                    species.getManaModifier()
-            );
-            entityStatMapComponent.putModifier(EntityStatMap.Predictable.SELF, manaStatIndex, MANA_MODIFIER_KEY, manaModifier);
-            entityStatMapComponent.maximizeStatValue(EntityStatMap.Predictable.SELF, manaStatIndex);
+    /**
+     * True if the player's existing modifier has the same effect as {@code wanted} (both absent counts as same).
+     */
+    private static boolean isSame(@Nullable Modifier existing, @Nullable StaticModifier wanted) {
+        if (existing == null || wanted == null) {
+            return existing == wanted;
         }
-        
-        // Component changes are automatically tracked by the ECS system - no need to putComponent
+        if (existing == wanted) {
+            return true;
+        }
+        return existing instanceof StaticModifier staticModifier
+                && staticModifier.getTarget() == wanted.getTarget()
+                && staticModifier.getCalculationType() == wanted.getCalculationType()
+                && Float.compare(staticModifier.getAmount(), wanted.getAmount()) == 0;
     }
 }